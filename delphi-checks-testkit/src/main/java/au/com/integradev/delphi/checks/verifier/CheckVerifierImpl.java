@@ -27,6 +27,7 @@ import au.com.integradev.delphi.antlr.ast.visitors.SymbolAssociationVisitor;
 import au.com.integradev.delphi.builders.DelphiTestFile;
 import au.com.integradev.delphi.builders.DelphiTestUnitBuilder;
 import au.com.integradev.delphi.check.MasterCheckRegistrar;
+import au.com.integradev.delphi.check.SubscriptionCheckDispatcher;
 import au.com.integradev.delphi.compiler.CompilerVersion;
 import au.com.integradev.delphi.compiler.Platform;
 import au.com.integradev.delphi.compiler.Toolchain;
@@ -38,15 +39,17 @@ import au.com.integradev.delphi.preprocessor.search.SearchPath;
 import au.com.integradev.delphi.reporting.TextRangeReplacement;
 import au.com.integradev.delphi.reporting.edits.QuickFixEditImpl;
 import au.com.integradev.delphi.symbol.SymbolTable;
+import au.com.integradev.delphi.symbol.SymbolTableBuilder.StandardLibrary;
 import au.com.integradev.delphi.type.factory.TypeFactoryImpl;
-import au.com.integradev.delphi.utils.DelphiUtils;
 import com.google.common.base.Splitter;
 import com.google.common.base.Suppliers;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
@@ -70,6 +73,7 @@ import org.sonar.api.batch.sensor.issue.IssueLocation;
 import org.sonar.api.rule.RuleKey;
 import org.sonar.api.rule.RuleScope;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonar.plugins.communitydelphi.api.reporting.QuickFix;
 import org.sonar.plugins.communitydelphi.api.reporting.QuickFixEdit;
 
@@ -82,6 +86,12 @@ import org.sonar.plugins.communitydelphi.api.reporting.QuickFixEdit;
  */
 public class CheckVerifierImpl implements CheckVerifier {
   private static final Logger LOG = LoggerFactory.getLogger(CheckVerifierImpl.class);
+  private static final Supplier<Path> STANDARD_LIBRARY_ROOT =
+      Suppliers.memoize(CheckVerifierImpl::createStandardLibraryRoot);
+  private static final LoadingCache<StandardLibraryKey, StandardLibrary> STANDARD_LIBRARIES =
+      CacheBuilder.newBuilder()
+          .maximumSize(32)
+          .build(CacheLoader.from(CheckVerifierImpl::createStandardLibrary));
 
   private DelphiCheck check;
   private DelphiTestFile testFile;
@@ -152,11 +162,11 @@ public class CheckVerifierImpl implements CheckVerifier {
       throw new AssertionError("No issue raised. At least one issue expected");
     }
 
-    Expectations expected = Expectations.fromComments(testFile.delphiFile());
+    Expectations expected = Expectations.fromComments(result.getFile());
 
     verifyIssuesOnLinesInternal(issues, expected.issues());
     if (!expected.quickFixes().isEmpty()) {
-      assertQuickFixes(quickFixes, expected.quickFixes());
+      assertQuickFixes(result.getFile(), quickFixes, expected.quickFixes());
     }
   }
 
@@ -232,8 +242,10 @@ public class CheckVerifierImpl implements CheckVerifier {
     return textRange.start().line();
   }
 
-  private void assertQuickFixes(
-      List<QuickFix> actualQuickFixes, List<QuickFixExpectation> expectedQuickFixes) {
+  private static void assertQuickFixes(
+      DelphiInputFile file,
+      List<QuickFix> actualQuickFixes,
+      List<QuickFixExpectation> expectedQuickFixes) {
     if (expectedQuickFixes.size() != actualQuickFixes.size()) {
       throw new AssertionError(
           String.format(
@@ -247,7 +259,9 @@ public class CheckVerifierImpl implements CheckVerifier {
 
       Optional<QuickFix> matchingQuickFix =
           unmatchedActuals.stream()
-              .filter(actual -> textEditsMatch(actual.getEdits(), expected.getExpectedTextEdits()))
+              .filter(
+                  actual ->
+                      textEditsMatch(file, actual.getEdits(), expected.getExpectedTextEdits()))
               .findFirst();
 
       matchingQuickFix.ifPresent(unmatchedActuals::remove);
@@ -260,7 +274,7 @@ public class CheckVerifierImpl implements CheckVerifier {
                 getQuickFixString(expected),
                 actualQuickFixes.size(),
                 actualQuickFixes.stream()
-                    .map(this::getQuickFixString)
+                    .map(quickFix -> getQuickFixString(file, quickFix))
                     .collect(Collectors.joining("\n"))));
       }
     }
@@ -271,13 +285,13 @@ public class CheckVerifierImpl implements CheckVerifier {
               "Found %d unexpected quick fixes:%n%s",
               unmatchedActuals.size(),
               unmatchedActuals.stream()
-                  .map(this::getQuickFixString)
+                  .map(quickFix -> getQuickFixString(file, quickFix))
                   .collect(Collectors.joining("\n"))));
     }
   }
 
-  private String getQuickFixString(QuickFix quickFix) {
-    Supplier<DelphiFileStream> fileStreamSupplier = newFileStreamSupplier(testFile.delphiFile());
+  private static String getQuickFixString(DelphiInputFile file, QuickFix quickFix) {
+    Supplier<DelphiFileStream> fileStreamSupplier = newFileStreamSupplier(file);
 
     return "Quick fix:\n  "
         + quickFix.getEdits().stream()
@@ -330,9 +344,11 @@ public class CheckVerifierImpl implements CheckVerifier {
         });
   }
 
-  private boolean textEditsMatch(
-      List<QuickFixEdit> textEdits, List<TextEditExpectation> expectedTextEdits) {
-    Supplier<DelphiFileStream> fileStreamSupplier = newFileStreamSupplier(testFile.delphiFile());
+  private static boolean textEditsMatch(
+      DelphiInputFile file,
+      List<QuickFixEdit> textEdits,
+      List<TextEditExpectation> expectedTextEdits) {
+    Supplier<DelphiFileStream> fileStreamSupplier = newFileStreamSupplier(file);
 
     List<TextRangeReplacement> unmatchedActuals =
         textEdits.stream()
@@ -425,28 +441,49 @@ public class CheckVerifierImpl implements CheckVerifier {
     requireAssigned(check, "check");
     requireAssigned(testFile, "file");
 
-    List<String> lines = Splitter.on('\n').splitToList(testFile.sourceCode());
-    for (int lineNum = 0; lineNum < lines.size(); ++lineNum) {
-      String printLine = String.format("%03d %s", lineNum + 1, lines.get(lineNum));
-      LOG.info(printLine);
+    if (LOG.isDebugEnabled()) {
+      List<String> lines = Splitter.on('\n').splitToList(testFile.sourceCode());
+      for (int lineNum = 0; lineNum < lines.size(); ++lineNum) {
+        LOG.debug(String.format("%03d %s", lineNum + 1, lines.get(lineNum)));
+      }
     }
 
-    Path standardLibraryPath = createStandardLibrary();
+    StandardLibrary standardLibrary =
+        STANDARD_LIBRARIES.getUnchecked(
+            new StandardLibraryKey(
+                compilerVersion, toolchain, unitScopeNames, unitAliases, standardLibraryUnits));
 
     DelphiInputFile file = testFile.delphiFile();
+    Path searchPath = createSearchPath();
+
+    try {
+      // The standard library and its type factory are shared, so verifications with the same
+      // configuration run one at a time. Verifications with different configurations have their
+      // own standard library, and can still run in parallel.
+      synchronized (standardLibrary) {
+        try {
+          return execute(file, standardLibrary, searchPath);
+        } finally {
+          standardLibrary.reset();
+        }
+      }
+    } finally {
+      FileUtils.deleteQuietly(searchPath.toFile());
+    }
+  }
+
+  private ExecutionResult execute(
+      DelphiInputFile file, StandardLibrary standardLibrary, Path searchPath) {
     SymbolTable symbolTable =
         SymbolTable.builder()
             .preprocessorFactory(new DelphiPreprocessorFactory(compilerVersion, Platform.WINDOWS))
-            .typeFactory(new TypeFactoryImpl(toolchain, compilerVersion))
-            .standardLibraryPath(standardLibraryPath)
+            .standardLibrary(standardLibrary)
             .sourceFiles(List.of(file.getSourceCodeFile().toPath()))
             .unitAliases(unitAliases)
             .unitScopeNames(unitScopeNames)
-            .searchPath(createSearchPath())
+            .searchPath(SearchPath.create(List.of(searchPath)))
             .build();
 
-    FileUtils.deleteQuietly(standardLibraryPath.toFile());
-
     new SymbolAssociationVisitor()
         .visit(file.getAst(), new SymbolAssociationVisitor.Data(symbolTable));
 
@@ -466,11 +503,22 @@ public class CheckVerifierImpl implements CheckVerifier {
         new DelphiCheckContextTester(
             check, sensorContext, file, compilerDirectiveParser, checkRegistrar);
 
-    check.start(context);
-    check.visit(file.getAst(), context);
-    check.end(context);
+    if (check instanceof DelphiSubscriptionCheck) {
+      var dispatcher =
+          new SubscriptionCheckDispatcher(
+              (failedCheck, failedContext, e) -> {
+                throw e;
+              });
+      dispatcher.add((DelphiSubscriptionCheck) check, context);
+      dispatcher.run(file.getAst());
+    } else {
+      check.start(context);
+      check.visit(file.getAst(), context);
+      check.end(context);
+    }
 
-    return new ExecutionResult(List.copyOf(sensorContext.allIssues()), context.getQuickFixes());
+    return new ExecutionResult(
+        file, List.copyOf(sensorContext.allIssues()), context.getQuickFixes());
   }
 
   private static IssueLocation verifySingleIssueOnComponent(List<Issue> issues, String component) {
@@ -545,9 +593,34 @@ public class CheckVerifierImpl implements CheckVerifier {
         (textRange == null ? "" : (":" + textRange.start().line())));
   }
 
-  private Path createStandardLibrary() {
+  private static Path createStandardLibraryRoot() {
     try {
-      Path path = Files.createTempDirectory("bds_source");
+      Path root = Files.createTempDirectory("bds_source");
+      Runtime.getRuntime()
+          .addShutdownHook(new Thread(() -> FileUtils.deleteQuietly(root.toFile())));
+      return root;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static StandardLibrary createStandardLibrary(StandardLibraryKey key) {
+    Path path = writeStandardLibrary(key.standardLibraryUnits);
+    Set<String> unitScopeNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    unitScopeNames.addAll(key.unitScopeNames);
+
+    return SymbolTable.builder()
+        .preprocessorFactory(new DelphiPreprocessorFactory(key.compilerVersion, Platform.WINDOWS))
+        .typeFactory(new TypeFactoryImpl(key.toolchain, key.compilerVersion))
+        .standardLibraryPath(path)
+        .unitAliases(key.unitAliases)
+        .unitScopeNames(unitScopeNames)
+        .buildStandardLibrary();
+  }
+
+  private static Path writeStandardLibrary(Map<String, String> standardLibraryUnits) {
+    try {
+      Path path = Files.createTempDirectory(STANDARD_LIBRARY_ROOT.get(), "bds_source");
       Files.writeString(
           path.resolve("SysInit.pas"), "unit SysInit;\ninterface\nimplementation\nend.");
 
@@ -1001,10 +1074,8 @@ public class CheckVerifierImpl implements CheckVerifier {
               + "\n"
               + "end.");
 
-      for (DelphiTestUnitBuilder unit : standardLibraryUnits) {
-        Path source = unit.delphiFile().getSourceCodeFile().toPath();
-        Path target = path.resolve(source.getFileName().toString());
-        Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+      for (Map.Entry<String, String> unit : standardLibraryUnits.entrySet()) {
+        Files.writeString(path.resolve(unit.getKey()), '\ufeff' + unit.getValue());
       }
 
       return path;
@@ -1013,24 +1084,87 @@ public class CheckVerifierImpl implements CheckVerifier {
     }
   }
 
-  private SearchPath createSearchPath() {
-    return SearchPath.create(
-        searchPathUnits.stream()
-            .map(builder -> builder.delphiFile().getInputFile())
-            .map(DelphiUtils::inputFileToPath)
-            .map(Path::getParent)
-            .collect(Collectors.toUnmodifiableList()));
+  private Path createSearchPath() {
+    try {
+      Path path = Files.createTempDirectory("search_path");
+      for (DelphiTestUnitBuilder unit : searchPathUnits) {
+        Path target = path.resolve(unit.getFileName());
+        if (!Files.exists(target)) {
+          Files.writeString(target, '\ufeff' + unit.sourceCode());
+        }
+      }
+      return path;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Everything that goes into indexing a standard library. Verifiers with equal keys share the same
+   * {@link StandardLibrary}.
+   */
+  private static final class StandardLibraryKey {
+    private final CompilerVersion compilerVersion;
+    private final Toolchain toolchain;
+    private final List<String> unitScopeNames;
+    private final Map<String, String> unitAliases;
+    private final Map<String, String> standardLibraryUnits;
+
+    private StandardLibraryKey(
+        CompilerVersion compilerVersion,
+        Toolchain toolchain,
+        Set<String> unitScopeNames,
+        Map<String, String> unitAliases,
+        List<DelphiTestUnitBuilder> standardLibraryUnits) {
+      this.compilerVersion = compilerVersion;
+      this.toolchain = toolchain;
+      this.unitScopeNames = List.copyOf(unitScopeNames);
+      this.unitAliases = Map.copyOf(unitAliases);
+      Map<String, String> sources = new TreeMap<>();
+      for (DelphiTestUnitBuilder unit : standardLibraryUnits) {
+        sources.put(unit.getFileName(), unit.sourceCode());
+      }
+      this.standardLibraryUnits = Map.copyOf(sources);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      StandardLibraryKey other = (StandardLibraryKey) o;
+      return compilerVersion.equals(other.compilerVersion)
+          && toolchain == other.toolchain
+          && unitScopeNames.equals(other.unitScopeNames)
+          && unitAliases.equals(other.unitAliases)
+          && standardLibraryUnits.equals(other.standardLibraryUnits);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(
+          compilerVersion, toolchain, unitScopeNames, unitAliases, standardLibraryUnits);
+    }
   }
 
   private static class ExecutionResult {
+    private final DelphiInputFile file;
     private final List<Issue> issues;
     private final List<QuickFix> quickFixes;
 
-    public ExecutionResult(List<Issue> issues, List<QuickFix> quickFixes) {
+    public ExecutionResult(DelphiInputFile file, List<Issue> issues, List<QuickFix> quickFixes) {
+      this.file = file;
       this.issues = issues;
       this.quickFixes = quickFixes;
     }
 
+    public DelphiInputFile getFile() {
+      return file;
+    }
+
     public List<Issue> getIssues() {
       return issues;
     }
@@ -18,6 +18,7 @@
  */
 package au.com.integradev.delphi.checks;
 
+import java.util.Set;
 import org.sonar.check.Rule;
 import org.sonar.plugins.communitydelphi.api.ast.ArrayAccessorNode;
 import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
@@ -27,13 +28,18 @@ import org.sonar.plugins.communitydelphi.api.ast.NameReferenceNode;
 import org.sonar.plugins.communitydelphi.api.ast.Node;
 import org.sonar.plugins.communitydelphi.api.ast.UnaryExpressionNode;
 import org.sonar.plugins.communitydelphi.api.ast.utils.ExpressionNodeUtils;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonar.plugins.communitydelphi.api.directive.SwitchDirective.SwitchKind;
 import org.sonar.plugins.communitydelphi.api.operator.UnaryOperator;
 
 @Rule(key = "AddressOfCharacterData")
-public class AddressOfCharacterDataCheck extends DelphiCheck {
+public class AddressOfCharacterDataCheck extends DelphiSubscriptionCheck {
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(UnaryExpressionNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(UnaryExpressionNode expressionNode, DelphiCheckContext context) {
     ExpressionNode operand = expressionNode.getOperand().skipParentheses();
@@ -18,13 +18,15 @@
  */
 package au.com.integradev.delphi.checks;
 
+import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
 import org.sonar.plugins.communitydelphi.api.ast.NameReferenceNode;
 import org.sonar.plugins.communitydelphi.api.ast.Node;
 import org.sonar.plugins.communitydelphi.api.ast.PrimaryExpressionNode;
 import org.sonar.plugins.communitydelphi.api.ast.UnaryExpressionNode;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonar.plugins.communitydelphi.api.operator.UnaryOperator;
 import org.sonar.plugins.communitydelphi.api.symbol.declaration.NameDeclaration;
 import org.sonar.plugins.communitydelphi.api.symbol.declaration.RoutineNameDeclaration;
@@ -35,10 +37,15 @@ import org.sonarsource.analyzer.commons.annotations.DeprecatedRuleKey;
 @DeprecatedRuleKey(ruleKey = "AddressOfNestedMethodRule", repositoryKey = "delph")
 @DeprecatedRuleKey(ruleKey = "AddressOfSubroutine", repositoryKey = "community-delphi")
 @Rule(key = "AddressOfNestedRoutine")
-public class AddressOfNestedRoutineCheck extends DelphiCheck {
+public class AddressOfNestedRoutineCheck extends DelphiSubscriptionCheck {
   private static final String MESSAGE =
       "Remove this procedural value referencing a nested routine.";
 
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(UnaryExpressionNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(UnaryExpressionNode expression, DelphiCheckContext context) {
     if (isAddressOfNestedRoutine(expression)) {
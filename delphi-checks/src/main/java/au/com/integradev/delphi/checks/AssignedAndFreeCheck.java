@@ -22,6 +22,7 @@
  */
 package au.com.integradev.delphi.checks;
 
+import java.util.Set;
 import javax.annotation.Nullable;
 import org.sonar.check.Rule;
 import org.sonar.plugins.communitydelphi.api.ast.ArgumentListNode;
@@ -35,8 +36,8 @@ import org.sonar.plugins.communitydelphi.api.ast.Node;
 import org.sonar.plugins.communitydelphi.api.ast.PrimaryExpressionNode;
 import org.sonar.plugins.communitydelphi.api.ast.StatementNode;
 import org.sonar.plugins.communitydelphi.api.ast.utils.ExpressionNodeUtils;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonar.plugins.communitydelphi.api.operator.BinaryOperator;
 import org.sonar.plugins.communitydelphi.api.reporting.DelphiIssueBuilder;
 import org.sonar.plugins.communitydelphi.api.reporting.QuickFix;
@@ -45,9 +46,14 @@ import org.sonarsource.analyzer.commons.annotations.DeprecatedRuleKey;
 
 @DeprecatedRuleKey(ruleKey = "AssignedAndFreeRule", repositoryKey = "delph")
 @Rule(key = "AssignedAndFree")
-public class AssignedAndFreeCheck extends DelphiCheck {
+public class AssignedAndFreeCheck extends DelphiSubscriptionCheck {
   private static final String MESSAGE = "Remove this unnecessary assignment check.";
 
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(IfStatementNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(IfStatementNode statement, DelphiCheckContext context) {
     DelphiNode violation = findViolation(statement);
@@ -18,20 +18,27 @@
  */
 package au.com.integradev.delphi.checks;
 
+import java.util.Set;
 import org.sonar.check.Rule;
 import org.sonar.plugins.communitydelphi.api.ast.CaseItemStatementNode;
 import org.sonar.plugins.communitydelphi.api.ast.CaseStatementNode;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
 import org.sonar.plugins.communitydelphi.api.ast.RangeExpressionNode;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonarsource.analyzer.commons.annotations.DeprecatedRuleKey;
 
 @DeprecatedRuleKey(ruleKey = "CaseStatementSizeRule", repositoryKey = "delph")
 @Rule(key = "CaseStatementSize")
-public class CaseStatementSizeCheck extends DelphiCheck {
+public class CaseStatementSizeCheck extends DelphiSubscriptionCheck {
   private static final String MESSAGE = "Replace this 'case' statement with an 'if' statement.";
   private static final int REQUIRED_CASE_ITEMS = 2;
 
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(CaseStatementNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(CaseStatementNode caseStatement, DelphiCheckContext context) {
     if (countCaseItems(caseStatement) < REQUIRED_CASE_ITEMS) {
@@ -22,17 +22,19 @@
  */
 package au.com.integradev.delphi.checks;
 
+import java.util.Set;
 import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
 import org.sonar.plugins.communitydelphi.api.ast.StructTypeNode;
 import org.sonar.plugins.communitydelphi.api.ast.TypeDeclarationNode;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonarsource.analyzer.commons.annotations.DeprecatedRuleKey;
 
 @DeprecatedRuleKey(ruleKey = "ClassPerFileRule", repositoryKey = "delph")
 @Rule(key = "ClassPerFile")
-public class ClassPerFileCheck extends DelphiCheck {
+public class ClassPerFileCheck extends DelphiSubscriptionCheck {
   private static final int DEFAULT_LIMIT = 1;
 
   @RuleProperty(
@@ -59,6 +61,11 @@ public class ClassPerFileCheck extends DelphiCheck {
     }
   }
 
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(TypeDeclarationNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(TypeDeclarationNode type, DelphiCheckContext context) {
     if (shouldCount(type)) {
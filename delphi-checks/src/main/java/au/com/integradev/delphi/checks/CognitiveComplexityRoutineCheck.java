@@ -18,6 +18,7 @@
  */
 package au.com.integradev.delphi.checks;
 
+import au.com.integradev.delphi.antlr.ast.node.RoutineImplementationNodeImpl;
 import au.com.integradev.delphi.antlr.ast.visitors.CognitiveComplexityVisitor;
 import au.com.integradev.delphi.antlr.ast.visitors.CognitiveComplexityVisitor.Data;
 import org.sonar.check.Rule;
@@ -51,7 +52,7 @@ public class CognitiveComplexityRoutineCheck extends DelphiCheck {
 
   @Override
   public DelphiCheckContext visit(RoutineImplementationNode routine, DelphiCheckContext context) {
-    int complexity = COGNITIVE_VISITOR.visit(routine, new Data()).getComplexity();
+    int complexity = getComplexity(routine);
 
     if (complexity > threshold) {
       reportIssue(
@@ -65,4 +66,12 @@ public class CognitiveComplexityRoutineCheck extends DelphiCheck {
 
     return super.visit(routine, context);
   }
+
+  private static int getComplexity(RoutineImplementationNode routine) {
+    if (routine instanceof RoutineImplementationNodeImpl) {
+      // Recorded by the metrics pass, so the routine doesn't need to be walked again
+      return ((RoutineImplementationNodeImpl) routine).getMetrics().getCognitiveComplexity();
+    }
+    return COGNITIVE_VISITOR.visit(routine, new Data()).getComplexity();
+  }
 }
@@ -19,19 +19,26 @@
 package au.com.integradev.delphi.checks;
 
 import au.com.integradev.delphi.utils.NameConventionUtils;
+import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
 import org.sonar.plugins.communitydelphi.api.ast.RoutineDeclarationNode;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonarsource.analyzer.commons.annotations.DeprecatedRuleKey;
 
 @DeprecatedRuleKey(ruleKey = "ConstructorCreateRule", repositoryKey = "delph")
 @Rule(key = "ConstructorName")
-public class ConstructorNameCheck extends DelphiCheck {
+public class ConstructorNameCheck extends DelphiSubscriptionCheck {
   private static final String MESSAGE =
       "Rename this constructor to match the expected naming convention";
   private static final String PREFIX = "Create";
 
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(RoutineDeclarationNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(RoutineDeclarationNode routine, DelphiCheckContext context) {
     if (isViolation(routine)) {
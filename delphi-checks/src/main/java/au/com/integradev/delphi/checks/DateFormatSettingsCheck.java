@@ -21,9 +21,10 @@ package au.com.integradev.delphi.checks;
 import com.google.common.collect.Iterables;
 import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
 import org.sonar.plugins.communitydelphi.api.ast.NameReferenceNode;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonar.plugins.communitydelphi.api.symbol.declaration.NameDeclaration;
 import org.sonar.plugins.communitydelphi.api.symbol.declaration.RoutineNameDeclaration;
 import org.sonar.plugins.communitydelphi.api.type.Parameter;
@@ -31,7 +32,7 @@ import org.sonarsource.analyzer.commons.annotations.DeprecatedRuleKey;
 
 @DeprecatedRuleKey(ruleKey = "DateFormatSettingsRule", repositoryKey = "delph")
 @Rule(key = "DateFormatSettings")
-public class DateFormatSettingsCheck extends DelphiCheck {
+public class DateFormatSettingsCheck extends DelphiSubscriptionCheck {
   private static final String MESSAGE = "Pass a 'TFormatSettings' argument into this routine.";
 
   private static final String TFORMATSETTINGS = "System.SysUtils.TFormatSettings";
@@ -46,6 +47,11 @@ public class DateFormatSettingsCheck extends DelphiCheck {
           "System.SysUtils.StrToDateTimeDef",
           "System.SysUtils.TryStrToDateTime");
 
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(NameReferenceNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(NameReferenceNode reference, DelphiCheckContext context) {
     NameDeclaration declaration = reference.getNameDeclaration();
@@ -18,17 +18,24 @@
  */
 package au.com.integradev.delphi.checks;
 
+import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
 import org.sonar.plugins.communitydelphi.api.ast.RoutineDeclarationNode;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonarsource.analyzer.commons.annotations.DeprecatedRuleKey;
 
 @DeprecatedRuleKey(ruleKey = "DestructorDestroyRule", repositoryKey = "delph")
 @Rule(key = "DestructorName")
-public class DestructorNameCheck extends DelphiCheck {
+public class DestructorNameCheck extends DelphiSubscriptionCheck {
   private static final String MESSAGE = "Change this destructor to override 'TObject.Destroy'";
 
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(RoutineDeclarationNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(RoutineDeclarationNode routine, DelphiCheckContext context) {
     if (isViolation(routine)) {
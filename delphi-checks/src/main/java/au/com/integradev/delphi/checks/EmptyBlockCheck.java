@@ -18,6 +18,7 @@
  */
 package au.com.integradev.delphi.checks;
 
+import java.util.Set;
 import org.sonar.check.Rule;
 import org.sonar.plugins.communitydelphi.api.ast.AnonymousMethodNode;
 import org.sonar.plugins.communitydelphi.api.ast.CompoundStatementNode;
@@ -27,15 +28,20 @@ import org.sonar.plugins.communitydelphi.api.ast.ExceptBlockNode;
 import org.sonar.plugins.communitydelphi.api.ast.ExceptItemNode;
 import org.sonar.plugins.communitydelphi.api.ast.RoutineBodyNode;
 import org.sonar.plugins.communitydelphi.api.ast.StatementListNode;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonarsource.analyzer.commons.annotations.DeprecatedRuleKey;
 
 @DeprecatedRuleKey(ruleKey = "EmptyBeginStatementRule", repositoryKey = "delph")
 @Rule(key = "EmptyBlock")
-public class EmptyBlockCheck extends DelphiCheck {
+public class EmptyBlockCheck extends DelphiSubscriptionCheck {
   private static final String MESSAGE = "Either remove or fill this block of code.";
 
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(CompoundStatementNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(CompoundStatementNode block, DelphiCheckContext context) {
     if (block.isEmpty() && shouldAddViolation(block)) {
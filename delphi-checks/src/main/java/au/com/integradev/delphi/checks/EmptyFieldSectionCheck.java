@@ -18,17 +18,24 @@
  */
 package au.com.integradev.delphi.checks;
 
+import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
 import org.sonar.plugins.communitydelphi.api.ast.FieldSectionNode;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonarsource.analyzer.commons.annotations.DeprecatedRuleKey;
 
 @DeprecatedRuleKey(ruleKey = "EmptyFieldSectionRule", repositoryKey = "delph")
 @Rule(key = "EmptyFieldSection")
-public class EmptyFieldSectionCheck extends DelphiCheck {
+public class EmptyFieldSectionCheck extends DelphiSubscriptionCheck {
   private static final String MESSAGE = "Remove this empty field section.";
 
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(FieldSectionNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(FieldSectionNode fieldSection, DelphiCheckContext context) {
     if (fieldSection.getDeclarations().isEmpty()) {
@@ -18,17 +18,24 @@
  */
 package au.com.integradev.delphi.checks;
 
+import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
 import org.sonar.plugins.communitydelphi.api.ast.FinallyBlockNode;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonarsource.analyzer.commons.annotations.DeprecatedRuleKey;
 
 @DeprecatedRuleKey(ruleKey = "EmptyFinallyBlockRule", repositoryKey = "delph")
 @Rule(key = "EmptyFinallyBlock")
-public class EmptyFinallyBlockCheck extends DelphiCheck {
+public class EmptyFinallyBlockCheck extends DelphiSubscriptionCheck {
   private static final String MESSAGE = "Remove this empty 'finally' block.";
 
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(FinallyBlockNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(FinallyBlockNode finallyBlock, DelphiCheckContext context) {
     if (finallyBlock.getStatementList().isEmpty()) {
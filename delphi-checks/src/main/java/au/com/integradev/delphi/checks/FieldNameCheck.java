@@ -21,17 +21,19 @@ package au.com.integradev.delphi.checks;
 import au.com.integradev.delphi.utils.NameConventionUtils;
 import com.google.common.base.Splitter;
 import java.util.List;
+import java.util.Set;
 import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
 import org.sonar.plugins.communitydelphi.api.ast.FieldDeclarationNode;
 import org.sonar.plugins.communitydelphi.api.ast.NameDeclarationNode;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonarsource.analyzer.commons.annotations.DeprecatedRuleKey;
 
 @DeprecatedRuleKey(ruleKey = "FieldNameRule", repositoryKey = "delph")
 @Rule(key = "FieldName")
-public class FieldNameCheck extends DelphiCheck {
+public class FieldNameCheck extends DelphiSubscriptionCheck {
   private static final String MESSAGE =
       "Rename this field to match the expected naming convention.";
   private static final String DEFAULT_PREFIXES = "F";
@@ -49,6 +51,11 @@ public class FieldNameCheck extends DelphiCheck {
     prefixesList = Splitter.on(',').trimResults().splitToList(prefixes);
   }
 
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(FieldDeclarationNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(FieldDeclarationNode field, DelphiCheckContext context) {
     if (field.isPrivate() || field.isProtected()) {
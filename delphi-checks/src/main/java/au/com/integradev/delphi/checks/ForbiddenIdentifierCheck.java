@@ -23,16 +23,17 @@ import com.google.common.collect.ImmutableSortedSet;
 import java.util.Set;
 import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
 import org.sonar.plugins.communitydelphi.api.ast.NameDeclarationNode;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonar.plugins.communitydelphi.api.check.RuleTemplate;
 import org.sonarsource.analyzer.commons.annotations.DeprecatedRuleKey;
 
 @RuleTemplate
 @DeprecatedRuleKey(ruleKey = "ForbiddenIdentifierRule", repositoryKey = "delph")
 @Rule(key = "ForbiddenIdentifier")
-public class ForbiddenIdentifierCheck extends DelphiCheck {
+public class ForbiddenIdentifierCheck extends DelphiSubscriptionCheck {
   private static final String DEFAULT_MESSAGE = "Remove usage of this forbidden identifier.";
 
   @RuleProperty(
@@ -52,6 +53,11 @@ public class ForbiddenIdentifierCheck extends DelphiCheck {
             String.CASE_INSENSITIVE_ORDER, Splitter.on(',').trimResults().split(blacklist));
   }
 
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(NameDeclarationNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(NameDeclarationNode node, DelphiCheckContext context) {
     if (identifiersSet.contains(node.getImage())) {
@@ -22,19 +22,21 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
 import org.sonar.check.Rule;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
 import org.sonar.plugins.communitydelphi.api.ast.NameReferenceNode;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonar.plugins.communitydelphi.api.symbol.declaration.NameDeclaration;
 import org.sonar.plugins.communitydelphi.api.symbol.declaration.RoutineNameDeclaration;
 import org.sonar.plugins.communitydelphi.api.type.Parameter;
 import org.sonar.plugins.communitydelphi.api.type.Type;
 
 @Rule(key = "ImplicitDefaultEncoding")
-public class ImplicitDefaultEncodingCheck extends DelphiCheck {
+public class ImplicitDefaultEncodingCheck extends DelphiSubscriptionCheck {
   private static final String MESSAGE = "Explicitly pass the encoding to this routine.";
 
   private static final Map<String, Signature> FORBIDDEN_SIGNATURES =
@@ -69,6 +71,11 @@ public class ImplicitDefaultEncodingCheck extends DelphiCheck {
               List.of("System.UnicodeString"),
               List.of("System.UnicodeString", "System.Boolean")));
 
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(NameReferenceNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(NameReferenceNode reference, DelphiCheckContext context) {
     NameDeclaration declaration = reference.getNameDeclaration();
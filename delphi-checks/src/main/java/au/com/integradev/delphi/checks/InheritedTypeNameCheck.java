@@ -18,12 +18,14 @@
  */
 package au.com.integradev.delphi.checks;
 
+import java.util.Set;
 import java.util.regex.Pattern;
 import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
 import org.sonar.plugins.communitydelphi.api.ast.TypeDeclarationNode;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonar.plugins.communitydelphi.api.check.IllegalRuleParameterError;
 import org.sonar.plugins.communitydelphi.api.check.RuleTemplate;
 import org.sonarsource.analyzer.commons.annotations.DeprecatedRuleKey;
@@ -31,7 +33,7 @@ import org.sonarsource.analyzer.commons.annotations.DeprecatedRuleKey;
 @RuleTemplate
 @DeprecatedRuleKey(ruleKey = "InheritedTypeNameRule", repositoryKey = "delph")
 @Rule(key = "InheritedTypeName")
-public class InheritedTypeNameCheck extends DelphiCheck {
+public class InheritedTypeNameCheck extends DelphiSubscriptionCheck {
   private static final String DEFAULT_NAME_REGULAR_EXPRESSION = "(?!)";
   private static final String DEFAULT_MESSAGE =
       "Rename this type to match the expected naming convention.";
@@ -64,6 +66,11 @@ public class InheritedTypeNameCheck extends DelphiCheck {
     }
   }
 
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(TypeDeclarationNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(TypeDeclarationNode type, DelphiCheckContext context) {
     if (namePattern != null
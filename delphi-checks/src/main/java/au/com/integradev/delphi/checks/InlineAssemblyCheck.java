@@ -18,16 +18,23 @@
  */
 package au.com.integradev.delphi.checks;
 
+import java.util.Set;
 import org.sonar.check.Rule;
 import org.sonar.plugins.communitydelphi.api.ast.AsmStatementNode;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonar.plugins.communitydelphi.api.check.FilePosition;
 
 @Rule(key = "InlineAssembly")
-public class InlineAssemblyCheck extends DelphiCheck {
+public class InlineAssemblyCheck extends DelphiSubscriptionCheck {
   private static final String MESSAGE = "Remove this inline assembly code.";
 
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(AsmStatementNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(AsmStatementNode asm, DelphiCheckContext context) {
     context
@@ -18,17 +18,24 @@
  */
 package au.com.integradev.delphi.checks;
 
+import java.util.Set;
 import org.sonar.check.Rule;
 import org.sonar.plugins.communitydelphi.api.ast.ConstStatementNode;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonarsource.analyzer.commons.annotations.DeprecatedRuleKey;
 
 @DeprecatedRuleKey(ruleKey = "InlineConstExplicitTypeRule", repositoryKey = "delph")
 @Rule(key = "InlineConstExplicitType")
-public class InlineConstExplicitTypeCheck extends DelphiCheck {
+public class InlineConstExplicitTypeCheck extends DelphiSubscriptionCheck {
   private static final String MESSAGE = "Add an explicit type to this inline const declaration.";
 
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(ConstStatementNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(ConstStatementNode node, DelphiCheckContext context) {
     if (node.getTypeNode() == null) {
@@ -18,17 +18,24 @@
  */
 package au.com.integradev.delphi.checks;
 
+import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
 import org.sonar.plugins.communitydelphi.api.ast.ForLoopVarDeclarationNode;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonarsource.analyzer.commons.annotations.DeprecatedRuleKey;
 
 @DeprecatedRuleKey(ruleKey = "InlineLoopVarExplicitTypeRule", repositoryKey = "delph")
 @Rule(key = "InlineLoopVarExplicitType")
-public class InlineLoopVarExplicitTypeCheck extends DelphiCheck {
+public class InlineLoopVarExplicitTypeCheck extends DelphiSubscriptionCheck {
   private static final String MESSAGE = "Add an explicit type to this inline loop var declaration.";
 
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(ForLoopVarDeclarationNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(ForLoopVarDeclarationNode node, DelphiCheckContext context) {
     if (node.getTypeNode() == null) {
@@ -18,14 +18,16 @@
  */
 package au.com.integradev.delphi.checks;
 
+import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
 import org.sonar.plugins.communitydelphi.api.ast.ExpressionNode;
 import org.sonar.plugins.communitydelphi.api.ast.ForToStatementNode;
 import org.sonar.plugins.communitydelphi.api.ast.IntegerLiteralNode;
 import org.sonar.plugins.communitydelphi.api.ast.NameReferenceNode;
 import org.sonar.plugins.communitydelphi.api.ast.PrimaryExpressionNode;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonar.plugins.communitydelphi.api.reporting.QuickFix;
 import org.sonar.plugins.communitydelphi.api.reporting.QuickFixEdit;
 import org.sonar.plugins.communitydelphi.api.symbol.declaration.NameDeclaration;
@@ -33,7 +35,12 @@ import org.sonar.plugins.communitydelphi.api.symbol.declaration.RoutineNameDecla
 import org.sonar.plugins.communitydelphi.api.symbol.declaration.TypedDeclaration;
 
 @Rule(key = "IterationPastHighBound")
-public class IterationPastHighBoundCheck extends DelphiCheck {
+public class IterationPastHighBoundCheck extends DelphiSubscriptionCheck {
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(ForToStatementNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(ForToStatementNode forStatement, DelphiCheckContext context) {
     var target = forStatement.getTargetExpression().skipParentheses();
@@ -20,9 +20,10 @@ package au.com.integradev.delphi.checks;
 
 import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
 import org.sonar.plugins.communitydelphi.api.ast.NameReferenceNode;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonar.plugins.communitydelphi.api.symbol.declaration.NameDeclaration;
 import org.sonar.plugins.communitydelphi.api.symbol.declaration.RoutineNameDeclaration;
 import org.sonar.plugins.communitydelphi.api.type.IntrinsicType;
@@ -30,7 +31,7 @@ import org.sonarsource.analyzer.commons.annotations.DeprecatedRuleKey;
 
 @DeprecatedRuleKey(ruleKey = "MathFunctionSingleOverloadRule", repositoryKey = "delph")
 @Rule(key = "MathFunctionSingleOverload")
-public class MathFunctionSingleOverloadCheck extends DelphiCheck {
+public class MathFunctionSingleOverloadCheck extends DelphiSubscriptionCheck {
   private static final String MESSAGE = "Use a different overload of this standard math function.";
 
   private static final Set<String> MATH_FUNCTIONS =
@@ -87,6 +88,11 @@ public class MathFunctionSingleOverloadCheck extends DelphiCheck {
           "System.Math.FMod",
           "System.Math.SimpleRoundTo");
 
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(NameReferenceNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(NameReferenceNode reference, DelphiCheckContext context) {
     NameDeclaration declaration = reference.getNameDeclaration();
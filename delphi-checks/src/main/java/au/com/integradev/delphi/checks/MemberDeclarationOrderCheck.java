@@ -20,6 +20,7 @@ package au.com.integradev.delphi.checks;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import org.sonar.check.Rule;
 import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
 import org.sonar.plugins.communitydelphi.api.ast.FieldDeclarationNode;
@@ -27,19 +28,24 @@ import org.sonar.plugins.communitydelphi.api.ast.FieldSectionNode;
 import org.sonar.plugins.communitydelphi.api.ast.PropertyNode;
 import org.sonar.plugins.communitydelphi.api.ast.RoutineDeclarationNode;
 import org.sonar.plugins.communitydelphi.api.ast.VisibilitySectionNode;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonarsource.analyzer.commons.annotations.DeprecatedRuleKey;
 
 @DeprecatedRuleKey(ruleKey = "MemberDeclarationOrderRule", repositoryKey = "delph")
 @Rule(key = "MemberDeclarationOrder")
-public class MemberDeclarationOrderCheck extends DelphiCheck {
+public class MemberDeclarationOrderCheck extends DelphiSubscriptionCheck {
   private enum BodySegment {
     FIELDS,
     ROUTINES,
     PROPERTIES
   }
 
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(VisibilitySectionNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(VisibilitySectionNode sectionNode, DelphiCheckContext context) {
     List<DelphiNode> outOfOrderDeclarations = getOutOfOrderDeclarations(sectionNode);
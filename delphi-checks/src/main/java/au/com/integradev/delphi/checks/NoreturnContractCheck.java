@@ -30,16 +30,22 @@ import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.sonar.check.Rule;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
 import org.sonar.plugins.communitydelphi.api.ast.RoutineImplementationNode;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonar.plugins.communitydelphi.api.symbol.declaration.RoutineDirective;
 
 @Rule(key = "NoreturnContract")
-public class NoreturnContractCheck extends DelphiCheck {
+public class NoreturnContractCheck extends DelphiSubscriptionCheck {
   private static final String MESSAGE =
       "This routine is marked 'noreturn' but can return normally.";
 
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(RoutineImplementationNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(RoutineImplementationNode routine, DelphiCheckContext context) {
     if (routine.hasDirective(RoutineDirective.NORETURN) && canReturnNormally(routine)) {
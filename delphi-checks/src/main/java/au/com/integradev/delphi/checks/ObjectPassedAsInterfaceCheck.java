@@ -28,11 +28,12 @@ import java.util.stream.IntStream;
 import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
 import org.sonar.plugins.communitydelphi.api.ast.ArgumentListNode;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
 import org.sonar.plugins.communitydelphi.api.ast.ExpressionNode;
 import org.sonar.plugins.communitydelphi.api.ast.NameReferenceNode;
 import org.sonar.plugins.communitydelphi.api.ast.PrimaryExpressionNode;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonar.plugins.communitydelphi.api.symbol.declaration.PropertyNameDeclaration;
 import org.sonar.plugins.communitydelphi.api.symbol.declaration.RoutineNameDeclaration;
 import org.sonar.plugins.communitydelphi.api.symbol.declaration.VariableNameDeclaration;
@@ -40,7 +41,7 @@ import org.sonar.plugins.communitydelphi.api.type.Type;
 import org.sonar.plugins.communitydelphi.api.type.Typed;
 
 @Rule(key = "ObjectPassedAsInterface")
-public class ObjectPassedAsInterfaceCheck extends DelphiCheck {
+public class ObjectPassedAsInterfaceCheck extends DelphiSubscriptionCheck {
   private static final String MESSAGE = "Do not pass this object reference as an interface.";
 
   private static final String DEFAULT_EXCLUDED_TYPES =
@@ -62,6 +63,11 @@ public class ObjectPassedAsInterfaceCheck extends DelphiCheck {
     excludedTypesList = Splitter.on(',').trimResults().splitToList(excludedTypes);
   }
 
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(ArgumentListNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(ArgumentListNode argumentList, DelphiCheckContext context) {
     var interfaceIndices = getInterfaceParameterIndices(argumentList);
@@ -18,21 +18,28 @@
  */
 package au.com.integradev.delphi.checks;
 
+import java.util.Set;
 import java.util.regex.Pattern;
 import org.sonar.check.Rule;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
 import org.sonar.plugins.communitydelphi.api.ast.ExpressionNode;
 import org.sonar.plugins.communitydelphi.api.ast.PrimaryExpressionNode;
 import org.sonar.plugins.communitydelphi.api.ast.RaiseStatementNode;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonarsource.analyzer.commons.annotations.DeprecatedRuleKey;
 
 @DeprecatedRuleKey(ruleKey = "RaisingGeneralExceptionRule", repositoryKey = "delph")
 @Rule(key = "RaisingRawException")
-public class RaisingRawExceptionCheck extends DelphiCheck {
+public class RaisingRawExceptionCheck extends DelphiSubscriptionCheck {
   private static final String MESSAGE = "Raise a more specific exception type.";
   private static final Pattern EXCEPTION_CREATE = Pattern.compile("(?i)Exception.Create\\b.*");
 
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(RaiseStatementNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(RaiseStatementNode raise, DelphiCheckContext context) {
     if (isRaisingRawException(raise)) {
@@ -18,17 +18,19 @@
  */
 package au.com.integradev.delphi.checks;
 
+import java.util.Set;
 import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
 import org.sonar.plugins.communitydelphi.api.ast.RoutineImplementationNode;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonarsource.analyzer.commons.annotations.DeprecatedRuleKey;
 
 @DeprecatedRuleKey(ruleKey = "MethodNestingDepthRule", repositoryKey = "delph")
 @DeprecatedRuleKey(ruleKey = "MethodNestingDepth", repositoryKey = "community-delphi")
 @Rule(key = "RoutineNestingDepth")
-public class RoutineNestingDepthCheck extends DelphiCheck {
+public class RoutineNestingDepthCheck extends DelphiSubscriptionCheck {
   private static final int DEFAULT_DEPTH = 1;
 
   @RuleProperty(
@@ -37,6 +39,11 @@ public class RoutineNestingDepthCheck extends DelphiCheck {
       defaultValue = DEFAULT_DEPTH + "")
   public int depth = DEFAULT_DEPTH;
 
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(RoutineImplementationNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(RoutineImplementationNode routine, DelphiCheckContext context) {
     int actualDepth = routine.getParentsOfType(RoutineImplementationNode.class).size();
@@ -20,22 +20,29 @@ package au.com.integradev.delphi.checks;
 
 import static java.util.function.Predicate.not;
 
+import java.util.Set;
 import org.sonar.check.Rule;
 import org.sonar.plugins.communitydelphi.api.ast.AssignmentStatementNode;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
 import org.sonar.plugins.communitydelphi.api.ast.Node;
 import org.sonar.plugins.communitydelphi.api.ast.RoutineBodyNode;
 import org.sonar.plugins.communitydelphi.api.ast.StatementListNode;
 import org.sonar.plugins.communitydelphi.api.ast.utils.ExpressionNodeUtils;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonarsource.analyzer.commons.annotations.DeprecatedRuleKey;
 
 @DeprecatedRuleKey(ruleKey = "DuplicatesRule", repositoryKey = "delph")
 @Rule(key = "StringListDuplicates")
-public class StringListDuplicatesCheck extends DelphiCheck {
+public class StringListDuplicatesCheck extends DelphiSubscriptionCheck {
   private static final String MESSAGE =
       "Sort this 'TStringList' when setting the 'Duplicates' property.";
 
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(RoutineBodyNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(RoutineBodyNode routineBody, DelphiCheckContext context) {
     if (routineBody.hasStatementBlock()) {
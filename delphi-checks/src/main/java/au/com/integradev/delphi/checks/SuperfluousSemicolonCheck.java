@@ -18,12 +18,13 @@
  */
 package au.com.integradev.delphi.checks;
 
+import java.util.Set;
 import org.sonar.check.Rule;
 import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
 import org.sonar.plugins.communitydelphi.api.ast.StatementListNode;
 import org.sonar.plugins.communitydelphi.api.ast.StatementNode;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonar.plugins.communitydelphi.api.reporting.QuickFix;
 import org.sonar.plugins.communitydelphi.api.reporting.QuickFixEdit;
 import org.sonar.plugins.communitydelphi.api.token.DelphiTokenType;
@@ -31,9 +32,14 @@ import org.sonarsource.analyzer.commons.annotations.DeprecatedRuleKey;
 
 @DeprecatedRuleKey(ruleKey = "SuperfluousSemicolonsRule", repositoryKey = "delph")
 @Rule(key = "SuperfluousSemicolon")
-public class SuperfluousSemicolonCheck extends DelphiCheck {
+public class SuperfluousSemicolonCheck extends DelphiSubscriptionCheck {
   private static final String MESSAGE = "Remove this superfluous semicolon.";
 
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(StatementListNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(StatementListNode statementList, DelphiCheckContext context) {
     DelphiNode previous = null;
@@ -22,20 +22,22 @@
  */
 package au.com.integradev.delphi.checks;
 
+import java.util.Set;
 import java.util.function.Predicate;
 import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
 import org.sonar.plugins.communitydelphi.api.ast.CompoundStatementNode;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
 import org.sonar.plugins.communitydelphi.api.ast.ExceptItemNode;
 import org.sonar.plugins.communitydelphi.api.ast.RoutineImplementationNode;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonarsource.analyzer.commons.annotations.DeprecatedRuleKey;
 
 @DeprecatedRuleKey(ruleKey = "TooLargeMethodRule", repositoryKey = "delph")
 @DeprecatedRuleKey(ruleKey = "TooLargeMethod", repositoryKey = "community-delphi")
 @Rule(key = "TooLargeRoutine")
-public class TooLargeRoutineCheck extends DelphiCheck {
+public class TooLargeRoutineCheck extends DelphiSubscriptionCheck {
   private static final int DEFAULT_LIMIT = 100;
 
   @RuleProperty(
@@ -44,6 +46,11 @@ public class TooLargeRoutineCheck extends DelphiCheck {
       defaultValue = DEFAULT_LIMIT + "")
   public int limit = DEFAULT_LIMIT;
 
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(RoutineImplementationNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(RoutineImplementationNode routine, DelphiCheckContext data) {
     long statements = countStatements(routine);
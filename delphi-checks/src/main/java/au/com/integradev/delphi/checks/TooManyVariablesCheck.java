@@ -19,19 +19,21 @@
 package au.com.integradev.delphi.checks;
 
 import java.util.List;
+import java.util.Set;
 import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
 import org.sonar.plugins.communitydelphi.api.ast.LocalDeclarationSectionNode;
 import org.sonar.plugins.communitydelphi.api.ast.RoutineImplementationNode;
 import org.sonar.plugins.communitydelphi.api.ast.VarDeclarationNode;
 import org.sonar.plugins.communitydelphi.api.ast.VarSectionNode;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonarsource.analyzer.commons.annotations.DeprecatedRuleKey;
 
 @DeprecatedRuleKey(ruleKey = "TooManyVariablesRule", repositoryKey = "delph")
 @Rule(key = "TooManyVariables")
-public class TooManyVariablesCheck extends DelphiCheck {
+public class TooManyVariablesCheck extends DelphiSubscriptionCheck {
   private static final int DEFAULT_MAXIMUM = 10;
 
   @RuleProperty(
@@ -40,6 +42,11 @@ public class TooManyVariablesCheck extends DelphiCheck {
       defaultValue = "" + DEFAULT_MAXIMUM)
   public int max = DEFAULT_MAXIMUM;
 
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(RoutineImplementationNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(RoutineImplementationNode routine, DelphiCheckContext context) {
     int count = countVariableDeclarations(routine);
@@ -18,19 +18,25 @@
  */
 package au.com.integradev.delphi.checks;
 
+import java.util.Set;
 import org.sonar.check.Rule;
 import org.sonar.plugins.communitydelphi.api.ast.ArgumentListNode;
 import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonar.plugins.communitydelphi.api.token.DelphiTokenType;
 import org.sonarsource.analyzer.commons.annotations.DeprecatedRuleKey;
 
 @DeprecatedRuleKey(ruleKey = "ExtraneousArgumentListCommasRule", repositoryKey = "delph")
 @Rule(key = "TrailingCommaArgumentList")
-public class TrailingCommaArgumentListCheck extends DelphiCheck {
+public class TrailingCommaArgumentListCheck extends DelphiSubscriptionCheck {
   private static final String MESSAGE = "Remove this trailing comma.";
 
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(ArgumentListNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(ArgumentListNode argumentList, DelphiCheckContext context) {
     DelphiNode node = argumentList.getChild(argumentList.getChildren().size() - 2);
@@ -19,16 +19,18 @@
 package au.com.integradev.delphi.checks;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
 import org.sonar.plugins.communitydelphi.api.ast.EnumElementNode;
 import org.sonar.plugins.communitydelphi.api.ast.EnumTypeNode;
 import org.sonar.plugins.communitydelphi.api.ast.InterfaceSectionNode;
 import org.sonar.plugins.communitydelphi.api.ast.NameDeclarationNode;
 import org.sonar.plugins.communitydelphi.api.ast.TypeDeclarationNode;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonar.plugins.communitydelphi.api.check.SonarLintUnsupported;
 import org.sonar.plugins.communitydelphi.api.symbol.NameOccurrence;
 import org.sonar.plugins.communitydelphi.api.symbol.scope.DelphiScope;
@@ -42,7 +44,7 @@ import org.sonarsource.analyzer.commons.annotations.DeprecatedRuleKey;
 @SonarLintUnsupported
 @DeprecatedRuleKey(ruleKey = "UnusedTypesRule", repositoryKey = "delph")
 @Rule(key = "UnusedType")
-public class UnusedTypeCheck extends DelphiCheck {
+public class UnusedTypeCheck extends DelphiSubscriptionCheck {
   private static final String MESSAGE = "Remove this unused type.";
   private static final boolean EXCLUDE_API_DEFAULT = false;
 
@@ -54,6 +56,11 @@ public class UnusedTypeCheck extends DelphiCheck {
       defaultValue = EXCLUDE_API_DEFAULT + "")
   public boolean excludeApi = EXCLUDE_API_DEFAULT;
 
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(TypeDeclarationNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(TypeDeclarationNode type, DelphiCheckContext context) {
     if (isViolation(type)) {
@@ -19,20 +19,27 @@
 package au.com.integradev.delphi.checks;
 
 import au.com.integradev.delphi.utils.IndentationUtils;
+import java.util.Set;
 import org.sonar.check.Rule;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
 import org.sonar.plugins.communitydelphi.api.ast.NameDeclarationNode;
 import org.sonar.plugins.communitydelphi.api.ast.TypeDeclarationNode;
 import org.sonar.plugins.communitydelphi.api.ast.VisibilityNode;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonarsource.analyzer.commons.annotations.DeprecatedRuleKey;
 
 @DeprecatedRuleKey(ruleKey = "VisibilityKeywordIndentationRule", repositoryKey = "delph")
 @Rule(key = "VisibilityKeywordIndentation")
-public class VisibilityKeywordIndentationCheck extends DelphiCheck {
+public class VisibilityKeywordIndentationCheck extends DelphiSubscriptionCheck {
   private static final String MESSAGE =
       "Indent this visibility specifier to the indentation level of the containing type.";
 
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(VisibilityNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(VisibilityNode visibilityNode, DelphiCheckContext context) {
     var declaration = visibilityNode.getNthParent(3);
@@ -26,6 +26,7 @@ import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.sonar.check.Rule;
 import org.sonar.plugins.communitydelphi.api.ast.ConstDeclarationNode;
@@ -40,15 +41,15 @@ import org.sonar.plugins.communitydelphi.api.ast.TypeSectionNode;
 import org.sonar.plugins.communitydelphi.api.ast.Visibility.VisibilityType;
 import org.sonar.plugins.communitydelphi.api.ast.VisibilityNode;
 import org.sonar.plugins.communitydelphi.api.ast.VisibilitySectionNode;
-import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonar.plugins.communitydelphi.api.symbol.NameOccurrence;
 import org.sonar.plugins.communitydelphi.api.symbol.scope.FileScope;
 import org.sonarsource.analyzer.commons.annotations.DeprecatedRuleKey;
 
 @DeprecatedRuleKey(ruleKey = "VisibilitySectionOrderRule", repositoryKey = "delph")
 @Rule(key = "VisibilitySectionOrder")
-public class VisibilitySectionOrderCheck extends DelphiCheck {
+public class VisibilitySectionOrderCheck extends DelphiSubscriptionCheck {
   private static final String MESSAGE = "Move this visibility section.";
 
   private static final Map<VisibilityType, Integer> VISIBILITY_ORDER =
@@ -62,6 +63,11 @@ public class VisibilitySectionOrderCheck extends DelphiCheck {
               VisibilityType.PUBLIC, 5,
               VisibilityType.PUBLISHED, 6));
 
+  @Override
+  public Set<Class<? extends DelphiNode>> nodesToVisit() {
+    return Set.of(StructTypeNode.class);
+  }
+
   @Override
   public DelphiCheckContext visit(StructTypeNode structTypeNode, DelphiCheckContext context) {
     checkOrder(structTypeNode.getVisibilitySections(), context);
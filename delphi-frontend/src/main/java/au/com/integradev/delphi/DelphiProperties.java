@@ -25,11 +25,13 @@ import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
+import org.sonar.api.PropertyType;
 import org.sonar.api.config.PropertyDefinition;
 import org.sonar.api.resources.Qualifiers;
 
 public final class DelphiProperties {
   public static final String EXCLUSIONS_KEY = "sonar.delphi.exclusions";
+  public static final String THREADS_KEY = "sonar.delphi.threads";
   public static final String INSTALLATION_PATH_KEY = "sonar.delphi.installationPath";
   public static final String COMPILER_TOOLCHAIN_KEY = "sonar.delphi.toolchain";
   public static final String COMPILER_VERSION_KEY = "sonar.delphi.compilerVersion";
@@ -50,6 +52,7 @@ public final class DelphiProperties {
   private static final String TEST_SUBCATEGORY = "Test and Coverage";
 
   public static final String EXCLUSIONS_DEFAULT_VALUE = "**/__history/**,**/__recovery/**";
+  public static final int THREADS_DEFAULT = 1;
   private static final String INSTALLATION_PATH_DEFAULT =
       "C:\\Program Files (x86)\\Embarcadero\\Studio\\22.0";
   public static final Toolchain COMPILER_TOOLCHAIN_DEFAULT = Toolchain.DCC32;
@@ -84,6 +87,17 @@ public final class DelphiProperties {
             .multiValues(true)
             .onQualifiers(Qualifiers.PROJECT)
             .build(),
+        PropertyDefinition.builder(THREADS_KEY)
+            .category(DELPHI_CATEGORY)
+            .subCategory(GENERAL_SUBCATEGORY)
+            .defaultValue(String.valueOf(THREADS_DEFAULT))
+            .name("Analysis threads")
+            .description(
+                "Number of threads used to analyze Delphi files."
+                    + " Set to `0` to use all available processors.")
+            .type(PropertyType.INTEGER)
+            .onQualifiers(Qualifiers.PROJECT)
+            .build(),
         PropertyDefinition.builder(DelphiProperties.INSTALLATION_PATH_KEY)
             .category(DELPHI_CATEGORY)
             .subCategory(TOOLCHAIN_SUBCATEGORY)
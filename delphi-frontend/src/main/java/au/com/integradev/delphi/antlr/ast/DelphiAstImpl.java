@@ -26,8 +26,15 @@ import au.com.integradev.delphi.antlr.DelphiLexer;
 import au.com.integradev.delphi.antlr.ast.node.DelphiNodeImpl;
 import au.com.integradev.delphi.antlr.ast.visitors.DelphiParserVisitor;
 import au.com.integradev.delphi.file.DelphiFile;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nullable;
 import org.sonar.plugins.communitydelphi.api.ast.DelphiAst;
 import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
@@ -41,6 +48,9 @@ import org.sonar.plugins.communitydelphi.api.token.DelphiToken;
 /** DelphiLanguage AST tree. */
 public class DelphiAstImpl extends DelphiNodeImpl implements DelphiAst {
   private final DelphiFile delphiFile;
+  private final Map<Class<?>, List<?>> descendantsByType = new ConcurrentHashMap<>();
+  private List<DelphiNode> descendants;
+  private volatile DelphiToken[] sortedComments;
 
   private DelphiAstImpl(DelphiFile delphiFile) {
     super(DelphiLexer.TkRootNode);
@@ -55,6 +65,49 @@ public class DelphiAstImpl extends DelphiNodeImpl implements DelphiAst {
     return ast;
   }
 
+  /**
+   * Returns all descendants of the given type in document order.
+   *
+   * <p>The AST is not modified once it has been built, so the result for each type is computed
+   * from a flattened list of every node in the tree and then cached.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> List<T> findDescendantsOfType(Class<T> targetType) {
+    List<?> result = descendantsByType.computeIfAbsent(targetType, this::indexDescendantsOfType);
+    return new ArrayList<>((List<T>) result);
+  }
+
+  private List<?> indexDescendantsOfType(Class<?> targetType) {
+    List<Object> result = new ArrayList<>();
+    for (DelphiNode node : getDescendants()) {
+      if (targetType.isInstance(node)) {
+        result.add(node);
+      }
+    }
+    return result;
+  }
+
+  private synchronized List<DelphiNode> getDescendants() {
+    if (descendants == null) {
+      descendants = new ArrayList<>();
+      Deque<DelphiNode> stack = new ArrayDeque<>();
+      pushChildren(this, stack);
+      while (!stack.isEmpty()) {
+        DelphiNode node = stack.pop();
+        descendants.add(node);
+        pushChildren(node, stack);
+      }
+    }
+    return descendants;
+  }
+
+  private static void pushChildren(DelphiNode node, Deque<DelphiNode> stack) {
+    for (int i = node.getChildCount() - 1; i >= 0; --i) {
+      stack.push(node.getChild(i));
+    }
+  }
+
   @Override
   public <T> T accept(DelphiParserVisitor<T> visitor, T data) {
     return visitor.visit(this, data);
@@ -118,12 +171,43 @@ public class DelphiAstImpl extends DelphiNodeImpl implements DelphiAst {
   }
 
   private List<DelphiToken> getCommentsBetweenTokens(DelphiToken first, DelphiToken last) {
-    return getComments().stream()
-        .filter(
-            token -> {
-              int index = token.getIndex();
-              return index > first.getIndex() && index < last.getIndex();
-            })
-        .collect(Collectors.toList());
+    DelphiToken[] comments = getSortedComments();
+    int begin = findFirstCommentAfter(comments, first.getIndex());
+    int end = findFirstCommentAfter(comments, last.getIndex() - 1);
+    if (begin >= end) {
+      return Collections.emptyList();
+    }
+    return Collections.unmodifiableList(Arrays.asList(comments).subList(begin, end));
+  }
+
+  private DelphiToken[] getSortedComments() {
+    DelphiToken[] result = sortedComments;
+    if (result == null) {
+      result = getComments().toArray(DelphiToken[]::new);
+      Arrays.sort(result, Comparator.comparingInt(DelphiToken::getIndex));
+      sortedComments = result;
+    }
+    return result;
+  }
+
+  /**
+   * Binary search for the first comment with a token index greater than {@code tokenIndex}.
+   *
+   * @param comments comments sorted by token index
+   * @param tokenIndex token index to search after
+   * @return array index of the first matching comment, or {@code comments.length} if there is none
+   */
+  private static int findFirstCommentAfter(DelphiToken[] comments, int tokenIndex) {
+    int low = 0;
+    int high = comments.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (comments[mid].getIndex() <= tokenIndex) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
   }
 }
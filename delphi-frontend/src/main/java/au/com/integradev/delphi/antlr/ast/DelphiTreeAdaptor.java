@@ -66,11 +66,25 @@ public class DelphiTreeAdaptor extends BaseTreeAdaptor {
   @Override
   public void setTokenBoundaries(Object node, Token startToken, Token stopToken) {
     if (node != null) {
-      ((MutableDelphiNode) node).setFirstToken(new DelphiTokenImpl(startToken));
-      ((MutableDelphiNode) node).setLastToken(new DelphiTokenImpl(stopToken));
+      MutableDelphiNode delphiNode = (MutableDelphiNode) node;
+      DelphiToken firstToken = wrapToken(delphiNode, startToken);
+      DelphiToken lastToken =
+          stopToken == startToken ? firstToken : wrapToken(delphiNode, stopToken);
+      delphiNode.setFirstToken(firstToken);
+      delphiNode.setLastToken(lastToken);
     }
   }
 
+  private static DelphiToken wrapToken(DelphiNode node, Token token) {
+    // Reuse the node's own token where possible, rather than wrapping the same token again
+    DelphiToken nodeToken = node.getToken();
+    if (nodeToken instanceof DelphiTokenImpl
+        && ((DelphiTokenImpl) nodeToken).getAntlrToken() == token) {
+      return nodeToken;
+    }
+    return new DelphiTokenImpl(token);
+  }
+
   @Override
   public Object errorNode(TokenStream input, Token start, Token stop, RecognitionException e) {
     return null;
@@ -181,12 +195,12 @@ public class DelphiTreeAdaptor extends BaseTreeAdaptor {
 
   @Override
   public Object getChild(Object node, int index) {
-    return ((DelphiNode) node).getChildren().get(index);
+    return ((DelphiNode) node).getChild(index);
   }
 
   @Override
   public int getChildCount(Object node) {
-    return ((DelphiNode) node).getChildren().size();
+    return ((DelphiNode) node).getChildCount();
   }
 
   @Override
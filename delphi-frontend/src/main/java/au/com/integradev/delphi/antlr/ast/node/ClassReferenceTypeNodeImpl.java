@@ -19,6 +19,7 @@
 package au.com.integradev.delphi.antlr.ast.node;
 
 import au.com.integradev.delphi.antlr.ast.visitors.DelphiParserVisitor;
+import au.com.integradev.delphi.type.factory.TypeFactoryImpl;
 import javax.annotation.Nonnull;
 import org.antlr.runtime.Token;
 import org.sonar.plugins.communitydelphi.api.ast.ClassReferenceTypeNode;
@@ -45,11 +46,11 @@ public final class ClassReferenceTypeNodeImpl extends TypeNodeImpl
   @Override
   @Nonnull
   protected Type createType() {
-    String image = null;
+    Type classType = getClassOfTypeNode().getType();
     if (parent instanceof TypeDeclarationNode) {
-      image = ((TypeDeclarationNode) parent).fullyQualifiedName();
+      String image = ((TypeDeclarationNode) parent).fullyQualifiedName();
+      return ((TypeFactoryImpl) getTypeFactory()).declaredClassOf(image, classType);
     }
-    Type classType = getClassOfTypeNode().getType();
-    return getTypeFactory().classOf(image, classType);
+    return getTypeFactory().classOf(null, classType);
   }
 }
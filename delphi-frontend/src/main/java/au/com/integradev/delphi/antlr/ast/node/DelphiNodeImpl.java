@@ -43,10 +43,12 @@ public abstract class DelphiNodeImpl implements MutableDelphiNode {
   private final DelphiToken token;
   protected DelphiNode parent;
   private List<DelphiNode> children;
+  private List<DelphiNode> childrenView = Collections.emptyList();
   private int childIndex;
   private DelphiToken firstToken;
   private DelphiToken lastToken;
   private DelphiScope scope;
+  private DelphiAst ast;
 
   /**
    * All nodes must implement this constructor. Used to create a node with a concrete token. Also
@@ -118,13 +120,15 @@ public abstract class DelphiNodeImpl implements MutableDelphiNode {
   public void addChild(@Nonnull DelphiNode node) {
     if (this.children == null) {
       this.children = new ArrayList<>();
+      this.childrenView = Collections.unmodifiableList(this.children);
     }
 
     DelphiNodeImpl child = (DelphiNodeImpl) node;
     if (child.getToken().isNil()) {
       boolean sameChildren = this.children.equals(child.children);
       Preconditions.checkArgument(!sameChildren, "Cannot add child list to itself!");
-      for (DelphiNode grandchild : child.getChildren()) {
+      for (int i = 0; i < child.getChildCount(); ++i) {
+        DelphiNode grandchild = child.children.get(i);
         ((DelphiNodeImpl) grandchild).setParent(this);
         ((DelphiNodeImpl) grandchild).setChildIndex(this.children.size());
         this.children.add(grandchild);
@@ -167,8 +171,8 @@ public abstract class DelphiNodeImpl implements MutableDelphiNode {
     DelphiToken result = this.token;
     int index = result.getIndex();
 
-    for (int i = 0; i < getChildren().size(); ++i) {
-      DelphiToken childToken = getChild(i).getFirstToken();
+    for (int i = 0; i < getChildCount(); ++i) {
+      DelphiToken childToken = children.get(i).getFirstToken();
       if (!childToken.isImaginary() && childToken.getIndex() < index) {
         result = childToken;
       }
@@ -181,8 +185,8 @@ public abstract class DelphiNodeImpl implements MutableDelphiNode {
     DelphiToken result = this.getFirstToken();
     int index = result.getIndex();
 
-    for (DelphiNode child : getChildren()) {
-      DelphiToken childToken = child.getLastToken();
+    for (int i = 0; i < getChildCount(); ++i) {
+      DelphiToken childToken = children.get(i).getLastToken();
       if (!childToken.isImaginary() && childToken.getIndex() > index) {
         result = childToken;
       }
@@ -192,7 +196,8 @@ public abstract class DelphiNodeImpl implements MutableDelphiNode {
 
   @Override
   public DelphiNode getFirstChildWithTokenType(DelphiTokenType tokenType) {
-    for (DelphiNode child : getChildren()) {
+    for (int i = 0; i < getChildCount(); ++i) {
+      DelphiNode child = children.get(i);
       if (child.getToken().getType() == tokenType) {
         return child;
       }
@@ -207,10 +212,14 @@ public abstract class DelphiNodeImpl implements MutableDelphiNode {
 
   @Override
   public final DelphiAst getAst() {
-    if (this instanceof DelphiAst) {
-      return (DelphiAst) this;
+    if (ast == null) {
+      if (this instanceof DelphiAst) {
+        ast = (DelphiAst) this;
+      } else {
+        ast = getFirstParentOfType(DelphiAst.class);
+      }
     }
-    return getFirstParentOfType(DelphiAst.class);
+    return ast;
   }
 
   @Override
@@ -220,8 +229,8 @@ public abstract class DelphiNodeImpl implements MutableDelphiNode {
 
   @Override
   public <T> T childrenAccept(DelphiParserVisitor<T> visitor, T data) {
-    for (DelphiNode child : getChildren()) {
-      child.accept(visitor, data);
+    for (int i = 0; i < getChildCount(); ++i) {
+      children.get(i).accept(visitor, data);
     }
     return data;
   }
@@ -229,6 +238,7 @@ public abstract class DelphiNodeImpl implements MutableDelphiNode {
   @Override
   public void setParent(DelphiNode parent) {
     this.parent = parent;
+    this.ast = null;
   }
 
   @Override
@@ -248,12 +258,17 @@ public abstract class DelphiNodeImpl implements MutableDelphiNode {
 
   @Override
   public List<DelphiNode> getChildren() {
-    return children == null ? Collections.emptyList() : Collections.unmodifiableList(children);
+    return childrenView;
+  }
+
+  @Override
+  public int getChildCount() {
+    return children == null ? 0 : children.size();
   }
 
   @Override
   public DelphiNode getChild(int index) {
-    if (index >= 0 && index < getChildren().size()) {
+    if (index >= 0 && index < getChildCount()) {
       return this.children.get(index);
     }
     return null;
@@ -313,7 +328,8 @@ public abstract class DelphiNodeImpl implements MutableDelphiNode {
 
   private static <T> void findDescendantsOfType(
       DelphiNode node, Class<T> targetType, List<T> results) {
-    for (DelphiNode child : node.getChildren()) {
+    for (int i = 0; i < node.getChildCount(); ++i) {
+      DelphiNode child = node.getChild(i);
       if (targetType.isAssignableFrom(child.getClass())) {
         results.add(targetType.cast(child));
       }
@@ -326,7 +342,8 @@ public abstract class DelphiNodeImpl implements MutableDelphiNode {
   public <T> List<T> findChildrenOfType(Class<T> targetType) {
     List<T> list = new ArrayList<>();
 
-    for (DelphiNode child : getChildren()) {
+    for (int i = 0; i < getChildCount(); ++i) {
+      DelphiNode child = children.get(i);
       if (targetType.isInstance(child)) {
         list.add(targetType.cast(child));
       }
@@ -342,7 +359,8 @@ public abstract class DelphiNodeImpl implements MutableDelphiNode {
 
   @Override
   public <T> T getFirstChildOfType(Class<T> childType) {
-    for (DelphiNode child : getChildren()) {
+    for (int i = 0; i < getChildCount(); ++i) {
+      DelphiNode child = children.get(i);
       if (childType.isInstance(child)) {
         return childType.cast(child);
       }
@@ -352,7 +370,8 @@ public abstract class DelphiNodeImpl implements MutableDelphiNode {
   }
 
   private static <T> T getFirstDescendantOfType(Class<T> descendantType, DelphiNode node) {
-    for (DelphiNode child : node.getChildren()) {
+    for (int i = 0; i < node.getChildCount(); ++i) {
+      DelphiNode child = node.getChild(i);
       if (descendantType.isAssignableFrom(child.getClass())) {
         return descendantType.cast(child);
       }
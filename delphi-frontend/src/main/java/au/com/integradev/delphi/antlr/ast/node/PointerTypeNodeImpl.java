@@ -19,6 +19,7 @@
 package au.com.integradev.delphi.antlr.ast.node;
 
 import au.com.integradev.delphi.antlr.ast.visitors.DelphiParserVisitor;
+import au.com.integradev.delphi.type.factory.TypeFactoryImpl;
 import javax.annotation.Nonnull;
 import org.antlr.runtime.Token;
 import org.sonar.plugins.communitydelphi.api.ast.PointerTypeNode;
@@ -44,10 +45,11 @@ public final class PointerTypeNodeImpl extends TypeNodeImpl implements PointerTy
   @Nonnull
   @Override
   protected Type createType() {
-    String image = null;
+    Type dereferenced = getDereferencedTypeNode().getType();
     if (parent instanceof TypeDeclarationNode) {
-      image = ((TypeDeclarationNode) parent).fullyQualifiedName();
+      String image = ((TypeDeclarationNode) parent).fullyQualifiedName();
+      return ((TypeFactoryImpl) getTypeFactory()).declaredPointerTo(image, dereferenced);
     }
-    return getTypeFactory().pointerTo(image, getDereferencedTypeNode().getType());
+    return getTypeFactory().pointerTo(null, dereferenced);
   }
 }
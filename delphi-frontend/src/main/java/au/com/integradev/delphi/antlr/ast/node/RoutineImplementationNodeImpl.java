@@ -19,6 +19,8 @@
 package au.com.integradev.delphi.antlr.ast.node;
 
 import au.com.integradev.delphi.antlr.ast.visitors.DelphiParserVisitor;
+import au.com.integradev.delphi.antlr.ast.visitors.MetricsVisitor;
+import au.com.integradev.delphi.antlr.ast.visitors.MetricsVisitor.RoutineMetrics;
 import au.com.integradev.delphi.cfg.ControlFlowGraphFactory;
 import au.com.integradev.delphi.cfg.api.ControlFlowGraph;
 import com.google.common.base.Suppliers;
@@ -53,6 +55,7 @@ public final class RoutineImplementationNodeImpl extends RoutineNodeImpl
             }
             return ControlFlowGraphFactory.create(block);
           });
+  private volatile RoutineMetrics metrics;
 
   public RoutineImplementationNodeImpl(Token token) {
     super(token);
@@ -149,6 +152,25 @@ public final class RoutineImplementationNodeImpl extends RoutineNodeImpl
     return cfgSupplier.get();
   }
 
+  /**
+   * Returns the complexity metrics of this routine, excluding any sub-procedures.
+   *
+   * <p>These are recorded when {@link MetricsVisitor} walks the file, and only computed here if
+   * that hasn't happened yet.
+   *
+   * @return routine metrics
+   */
+  public RoutineMetrics getMetrics() {
+    if (metrics == null) {
+      accept(new MetricsVisitor(), new MetricsVisitor.Data());
+    }
+    return metrics;
+  }
+
+  public void setMetrics(RoutineMetrics metrics) {
+    this.metrics = metrics;
+  }
+
   @Override
   public VisibilityType createVisibility() {
     return VisibilityType.PUBLIC;
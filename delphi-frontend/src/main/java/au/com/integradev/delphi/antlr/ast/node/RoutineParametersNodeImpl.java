@@ -73,6 +73,6 @@ public final class RoutineParametersNodeImpl extends DelphiNodeImpl
 
   @Override
   public boolean isEmpty() {
-    return getChildren().size() < 3;
+    return getChildCount() < 3;
   }
 }
@@ -29,10 +29,11 @@ public class DelphiTokenImpl implements DelphiToken {
   private final Token token;
   private final DelphiTokenType tokenType;
   private String image;
-  private Integer beginLine;
-  private Integer beginColumn;
-  private Integer endLine;
-  private Integer endColumn;
+  private boolean positionCalculated;
+  private int beginLine;
+  private int beginColumn;
+  private int endLine;
+  private int endColumn;
 
   public DelphiTokenImpl(Token token) {
     this.token = token;
@@ -52,37 +53,33 @@ public class DelphiTokenImpl implements DelphiToken {
 
   @Override
   public int getBeginLine() {
-    if (beginLine == null) {
-      calculatePosition();
-    }
+    calculatePosition();
     return beginLine;
   }
 
   @Override
   public int getBeginColumn() {
-    if (beginColumn == null) {
-      calculatePosition();
-    }
+    calculatePosition();
     return beginColumn;
   }
 
   @Override
   public int getEndLine() {
-    if (endLine == null) {
-      calculatePosition();
-    }
+    calculatePosition();
     return endLine;
   }
 
   @Override
   public int getEndColumn() {
-    if (endColumn == null) {
-      calculatePosition();
-    }
+    calculatePosition();
     return endColumn;
   }
 
   private void calculatePosition() {
+    if (positionCalculated) {
+      return;
+    }
+
     if (isIncludedToken()) {
       DelphiToken insertionToken = ((IncludeToken) token).getInsertionToken();
       beginLine = insertionToken.getBeginLine();
@@ -104,6 +101,8 @@ public class DelphiTokenImpl implements DelphiToken {
       endLine = beginLine;
       endColumn = beginColumn + getImage().length();
     }
+
+    positionCalculated = true;
   }
 
   @Override
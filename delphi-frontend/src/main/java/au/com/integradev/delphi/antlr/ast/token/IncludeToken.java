@@ -36,6 +36,21 @@ public class IncludeToken extends CommonToken {
     this.insertionToken = other.insertionToken;
   }
 
+  /**
+   * Copies an include token onto a different insertion token, so that the same lexed include file
+   * can be reused for multiple inclusions.
+   *
+   * @param other the token to copy
+   * @param insertionToken the include directive token that the copy is inserted at
+   */
+  public IncludeToken(IncludeToken other, DelphiToken insertionToken) {
+    super(other.input, other.type, other.channel, other.start, other.stop);
+    this.line = other.line;
+    this.charPositionInLine = other.charPositionInLine;
+    this.text = other.text;
+    this.insertionToken = insertionToken;
+  }
+
   public DelphiToken getInsertionToken() {
     return insertionToken;
   }
@@ -18,18 +18,42 @@
  */
 package au.com.integradev.delphi.antlr.ast.visitors;
 
+import au.com.integradev.delphi.antlr.ast.node.RoutineImplementationNodeImpl;
 import au.com.integradev.delphi.antlr.ast.visitors.MetricsVisitor.Data;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.regex.Pattern;
 import org.apache.commons.lang3.StringUtils;
+import org.sonar.plugins.communitydelphi.api.ast.AnonymousMethodNode;
+import org.sonar.plugins.communitydelphi.api.ast.BinaryExpressionNode;
+import org.sonar.plugins.communitydelphi.api.ast.CaseItemStatementNode;
+import org.sonar.plugins.communitydelphi.api.ast.CaseStatementNode;
 import org.sonar.plugins.communitydelphi.api.ast.ClassTypeNode;
-import org.sonar.plugins.communitydelphi.api.ast.DelphiAst;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
+import org.sonar.plugins.communitydelphi.api.ast.ExceptBlockNode;
+import org.sonar.plugins.communitydelphi.api.ast.ExceptItemNode;
+import org.sonar.plugins.communitydelphi.api.ast.ExpressionNode;
+import org.sonar.plugins.communitydelphi.api.ast.ForStatementNode;
+import org.sonar.plugins.communitydelphi.api.ast.IfStatementNode;
+import org.sonar.plugins.communitydelphi.api.ast.RepeatStatementNode;
 import org.sonar.plugins.communitydelphi.api.ast.RoutineBodyNode;
 import org.sonar.plugins.communitydelphi.api.ast.RoutineImplementationNode;
 import org.sonar.plugins.communitydelphi.api.ast.StatementNode;
+import org.sonar.plugins.communitydelphi.api.ast.WhileStatementNode;
+import org.sonar.plugins.communitydelphi.api.operator.BinaryOperator;
 import org.sonar.plugins.communitydelphi.api.token.DelphiToken;
 
+/**
+ * Computes the file-level metrics in a single traversal of the AST.
+ *
+ * <p>Cyclomatic and cognitive complexity are counted the same way as {@link
+ * CyclomaticComplexityVisitor} and {@link CognitiveComplexityVisitor}. Each routine implementation
+ * also gets its own {@link RoutineMetrics}, which exclude the routine's declaration section (and
+ * therefore any sub-procedures) and are cached on the node.
+ */
 public class MetricsVisitor implements DelphiParserVisitor<Data> {
   private static final Pattern NEW_LINE_PATTERN = Pattern.compile("\r\n|\n|\r");
 
@@ -38,9 +62,38 @@ public class MetricsVisitor implements DelphiParserVisitor<Data> {
     private int routines;
     private int complexity;
     private int cognitiveComplexity;
-    private final Set<Integer> codeLines = new HashSet<>();
-    private final Set<Integer> commentLines = new HashSet<>();
+    private final BitSet codeLines = new BitSet();
+    private final BitSet commentLines = new BitSet();
     private int statements;
+    private int nesting = 1;
+    private int cognitiveSuppression;
+    private final Set<DelphiNode> ignored = new HashSet<>();
+    private RoutineMetrics routine;
+
+    private void increaseComplexity() {
+      ++complexity;
+      if (routine != null) {
+        ++routine.complexity;
+      }
+    }
+
+    private void increaseCognitiveComplexityByNesting(int offset) {
+      if (cognitiveSuppression == 0) {
+        cognitiveComplexity += nesting + offset;
+        if (routine != null) {
+          routine.cognitiveComplexity += nesting - routine.baseNesting + 1 + offset;
+        }
+      }
+    }
+
+    private void increaseCognitiveComplexityByOne() {
+      if (cognitiveSuppression == 0) {
+        ++cognitiveComplexity;
+        if (routine != null) {
+          ++routine.cognitiveComplexity;
+        }
+      }
+    }
 
     public int getClasses() {
       return classes;
@@ -59,29 +112,35 @@ public class MetricsVisitor implements DelphiParserVisitor<Data> {
     }
 
     public int getCommentLines() {
-      return commentLines.size();
+      return commentLines.cardinality();
     }
 
     public int getStatements() {
       return statements;
     }
 
-    public Set<Integer> getCodeLines() {
+    public BitSet getCodeLines() {
       return codeLines;
     }
   }
 
-  @Override
-  public Data visit(DelphiAst ast, Data data) {
-    var cyclomaticVisitor = new CyclomaticComplexityVisitor();
-    var cyclomaticComplexity = cyclomaticVisitor.visit(ast, new CyclomaticComplexityVisitor.Data());
-    data.complexity = cyclomaticComplexity.getComplexity();
+  /** Complexity metrics of a single routine implementation, excluding its sub-procedures. */
+  public static final class RoutineMetrics {
+    private final int baseNesting;
+    private int complexity;
+    private int cognitiveComplexity;
 
-    var cognitiveVisitor = new CognitiveComplexityVisitor();
-    var cognitiveComplexity = cognitiveVisitor.visit(ast, new CognitiveComplexityVisitor.Data());
-    data.cognitiveComplexity = cognitiveComplexity.getComplexity();
+    private RoutineMetrics(int baseNesting) {
+      this.baseNesting = baseNesting;
+    }
 
-    return DelphiParserVisitor.super.visit(ast, data);
+    public int getComplexity() {
+      return complexity;
+    }
+
+    public int getCognitiveComplexity() {
+      return cognitiveComplexity;
+    }
   }
 
   @Override
@@ -91,19 +150,44 @@ public class MetricsVisitor implements DelphiParserVisitor<Data> {
       String[] commentLines = NEW_LINE_PATTERN.split(token.getImage(), -1);
       for (String commentLine : commentLines) {
         if (StringUtils.isNotBlank(commentLine)) {
-          data.commentLines.add(line);
+          data.commentLines.set(line);
         }
         ++line;
       }
     } else if (!token.isImaginary() && !token.isWhitespace() && !token.isCompilerDirective()) {
-      data.codeLines.add(token.getBeginLine());
+      data.codeLines.set(token.getBeginLine());
     }
   }
 
   @Override
   public Data visit(RoutineImplementationNode routine, Data data) {
     ++data.routines;
-    return DelphiParserVisitor.super.visit(routine, data);
+
+    RoutineMetrics outer = data.routine;
+    RoutineMetrics metrics = new RoutineMetrics(data.nesting);
+    data.routine = metrics;
+    data.increaseComplexity();
+    DelphiParserVisitor.super.visit(routine, data);
+    data.routine = outer;
+
+    if (routine instanceof RoutineImplementationNodeImpl) {
+      ((RoutineImplementationNodeImpl) routine).setMetrics(metrics);
+    }
+    return data;
+  }
+
+  @Override
+  public Data visit(RoutineBodyNode body, Data data) {
+    // Declarations (and sub-procedures) only count towards the file, not the enclosing routine.
+    RoutineMetrics routine = data.routine;
+    DelphiNode block = body.getBlock();
+    for (int i = 0; i < body.getChildCount(); ++i) {
+      DelphiNode child = body.getChild(i);
+      data.routine = child == block ? routine : null;
+      child.accept(this, data);
+    }
+    data.routine = routine;
+    return data;
   }
 
   @Override
@@ -114,9 +198,158 @@ public class MetricsVisitor implements DelphiParserVisitor<Data> {
 
   @Override
   public Data visit(StatementNode statement, Data data) {
+    countStatement(statement, data);
+    return DelphiParserVisitor.super.visit(statement, data);
+  }
+
+  private static void countStatement(StatementNode statement, Data data) {
     if (!(statement.getParent() instanceof RoutineBodyNode)) {
       ++data.statements;
     }
-    return DelphiParserVisitor.super.visit(statement, data);
+  }
+
+  @Override
+  public Data visit(IfStatementNode statement, Data data) {
+    data.increaseComplexity();
+    data.increaseCognitiveComplexityByNesting(0);
+    countStatement(statement, data);
+
+    StatementNode thenBranch = statement.getThenStatement();
+    StatementNode elseBranch = statement.getElseStatement();
+    for (int i = 0; i < statement.getChildCount(); ++i) {
+      DelphiNode child = statement.getChild(i);
+      if (child == thenBranch) {
+        ++data.nesting;
+        child.accept(this, data);
+        --data.nesting;
+      } else if (child == elseBranch) {
+        visitElseBranch(elseBranch, data);
+      } else {
+        child.accept(this, data);
+      }
+    }
+
+    return data;
+  }
+
+  private void visitElseBranch(StatementNode elseBranch, Data data) {
+    if (elseBranch instanceof IfStatementNode) {
+      data.increaseCognitiveComplexityByNesting(-1);
+      elseBranch.accept(this, data);
+    } else {
+      data.increaseCognitiveComplexityByOne();
+      ++data.nesting;
+      elseBranch.accept(this, data);
+      --data.nesting;
+    }
+  }
+
+  @Override
+  public Data visit(ExceptBlockNode exceptBlock, Data data) {
+    if (!exceptBlock.hasHandlers()) {
+      return DelphiParserVisitor.super.visit(exceptBlock, data);
+    }
+
+    exceptBlock.getHandlers().forEach(handler -> data.increaseCognitiveComplexityByNesting(0));
+    for (int i = 0; i < exceptBlock.getChildCount(); ++i) {
+      DelphiNode child = exceptBlock.getChild(i);
+      if (child instanceof ExceptItemNode) {
+        ++data.nesting;
+        child.accept(this, data);
+        --data.nesting;
+      } else {
+        // Only the handlers of an except block contribute to cognitive complexity.
+        ++data.cognitiveSuppression;
+        child.accept(this, data);
+        --data.cognitiveSuppression;
+      }
+    }
+    return data;
+  }
+
+  @Override
+  public Data visit(CaseItemStatementNode statement, Data data) {
+    data.increaseComplexity();
+    return visit((StatementNode) statement, data);
+  }
+
+  @Override
+  public Data visit(ForStatementNode statement, Data data) {
+    data.increaseComplexity();
+    return visitNestedStatement(statement, data);
+  }
+
+  @Override
+  public Data visit(WhileStatementNode statement, Data data) {
+    data.increaseComplexity();
+    return visitNestedStatement(statement, data);
+  }
+
+  @Override
+  public Data visit(RepeatStatementNode statement, Data data) {
+    data.increaseComplexity();
+    return visitNestedStatement(statement, data);
+  }
+
+  @Override
+  public Data visit(CaseStatementNode statement, Data data) {
+    return visitNestedStatement(statement, data);
+  }
+
+  private Data visitNestedStatement(StatementNode statement, Data data) {
+    data.increaseCognitiveComplexityByNesting(0);
+    ++data.nesting;
+    visit(statement, data);
+    --data.nesting;
+    return data;
+  }
+
+  @Override
+  public Data visit(AnonymousMethodNode anonymous, Data data) {
+    data.increaseComplexity();
+    ++data.nesting;
+    DelphiParserVisitor.super.visit(anonymous, data);
+    --data.nesting;
+    return data;
+  }
+
+  @Override
+  public Data visit(BinaryExpressionNode expression, Data data) {
+    if (isAndOrExpression(expression)) {
+      data.increaseComplexity();
+      if (data.cognitiveSuppression == 0 && !data.ignored.contains(expression)) {
+        List<BinaryExpressionNode> flattened = new ArrayList<>();
+        flattenLogicalExpression(expression, flattened, data);
+
+        BinaryExpressionNode previous = null;
+        for (BinaryExpressionNode current : flattened) {
+          if (previous == null || previous.getOperator() != current.getOperator()) {
+            data.increaseCognitiveComplexityByOne();
+          }
+          previous = current;
+        }
+      }
+    }
+    return DelphiParserVisitor.super.visit(expression, data);
+  }
+
+  private static void flattenLogicalExpression(
+      ExpressionNode expression, List<BinaryExpressionNode> result, Data data) {
+    if (isAndOrExpression(expression)) {
+      data.ignored.add(expression);
+
+      BinaryExpressionNode binaryExpr = (BinaryExpressionNode) expression;
+      flattenLogicalExpression(binaryExpr.getLeft().skipParentheses(), result, data);
+      result.add(binaryExpr);
+      flattenLogicalExpression(binaryExpr.getRight().skipParentheses(), result, data);
+    }
+  }
+
+  private static boolean isAndOrExpression(ExpressionNode expression) {
+    if (expression instanceof BinaryExpressionNode) {
+      BinaryOperator operator = ((BinaryExpressionNode) expression).getOperator();
+      return operator == BinaryOperator.AND || operator == BinaryOperator.OR;
+    }
+    return false;
   }
 }
@@ -44,6 +44,12 @@ import org.sonar.plugins.communitydelphi.api.symbol.declaration.UnitNameDeclarat
  * NameDeclarationNode links...)
  *
  * <p>This visitor re-attaches applicable symbol information to the nodes of a fresh AST.
+ *
+ * <p>NOTE: Source files may also be retained by the SymbolTableBuilder and handed off to analysis
+ * instead of being parsed again. In that case, the symbol information is already attached, and this
+ * visitor simply re-attaches the same information.
+ *
+ * <p>Once a file has been visited, the registrations in its file scope are released.
  */
 public class SymbolAssociationVisitor implements DelphiParserVisitor<Data> {
   public static class Data {
@@ -67,7 +73,14 @@ public class SymbolAssociationVisitor implements DelphiParserVisitor<Data> {
     data.fileScope = (FileScopeImpl) declaration.getFileScope();
     ((DelphiAstImpl) node).setScope(data.fileScope);
 
-    return node.childrenAccept(this, data);
+    node.childrenAccept(this, data);
+
+    // Each file is only associated once, so the registrations are no longer needed.
+    data.fileScope.unregisterScopes();
+    data.fileScope.unregisterDeclarations();
+    data.fileScope.unregisterOccurrences();
+
+    return data;
   }
 
   @Override
@@ -809,7 +809,7 @@ public abstract class SymbolTableVisitor implements DelphiParserVisitor<Data> {
       data.nameResolutionHelper.resolve(typeNode);
     }
 
-    for (int i = declarationNode.getChildren().size() - 1; i >= 0; --i) {
+    for (int i = declarationNode.getChildCount() - 1; i >= 0; --i) {
       DelphiNode child = declarationNode.getChild(i);
       if (!(child instanceof TypeNode)) {
         child.accept(this, data);
@@ -0,0 +1,124 @@
+/*
+ * Sonar Delphi Plugin
+ * Copyright (C) 2026 Integrated Application Development
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02
+ */
+package au.com.integradev.delphi.check;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiAst;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
+import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
+import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
+
+/**
+ * Runs subscription checks over an AST in a single pre-order traversal, dispatching each node
+ * only to the checks that subscribed to its type.
+ *
+ * <p>A check that throws is reported to the {@link ErrorHandler} and skipped for the rest of the
+ * file, without affecting the other checks.
+ */
+public class SubscriptionCheckDispatcher {
+  private final ErrorHandler errorHandler;
+  private final List<Subscriber> subscribers = new ArrayList<>();
+  private final Map<Class<?>, List<Subscriber>> subscribersByNodeClass = new HashMap<>();
+
+  public SubscriptionCheckDispatcher(ErrorHandler errorHandler) {
+    this.errorHandler = errorHandler;
+  }
+
+  public void add(DelphiSubscriptionCheck check, DelphiCheckContext context) {
+    subscribers.add(new Subscriber(check, context));
+    subscribersByNodeClass.clear();
+  }
+
+  public void run(DelphiAst ast) {
+    if (subscribers.isEmpty()) {
+      return;
+    }
+
+    for (Subscriber subscriber : subscribers) {
+      subscriber.run(() -> subscriber.check.start(subscriber.context));
+    }
+
+    Deque<DelphiNode> stack = new ArrayDeque<>();
+    stack.push(ast);
+    while (!stack.isEmpty()) {
+      DelphiNode node = stack.pop();
+      for (Subscriber subscriber : getSubscribers(node)) {
+        subscriber.run(() -> node.accept(subscriber.check, subscriber.context));
+      }
+      List<DelphiNode> children = node.getChildren();
+      for (int i = children.size() - 1; i >= 0; --i) {
+        stack.push(children.get(i));
+      }
+    }
+
+    for (Subscriber subscriber : subscribers) {
+      subscriber.run(() -> subscriber.check.end(subscriber.context));
+    }
+  }
+
+  private List<Subscriber> getSubscribers(DelphiNode node) {
+    return subscribersByNodeClass.computeIfAbsent(
+        node.getClass(),
+        nodeClass ->
+            subscribers.stream()
+                .filter(subscriber -> subscriber.isSubscribedTo(nodeClass))
+                .collect(Collectors.toUnmodifiableList()));
+  }
+
+  @FunctionalInterface
+  public interface ErrorHandler {
+    void handle(DelphiCheck check, DelphiCheckContext context, RuntimeException e);
+  }
+
+  private final class Subscriber {
+    private final DelphiSubscriptionCheck check;
+    private final DelphiCheckContext context;
+    private final List<Class<? extends DelphiNode>> nodeTypes;
+    private boolean failed;
+
+    private Subscriber(DelphiSubscriptionCheck check, DelphiCheckContext context) {
+      this.check = check;
+      this.context = context;
+      this.nodeTypes = List.copyOf(check.nodesToVisit());
+    }
+
+    private boolean isSubscribedTo(Class<?> nodeClass) {
+      return nodeTypes.stream().anyMatch(type -> type.isAssignableFrom(nodeClass));
+    }
+
+    private void run(Runnable action) {
+      if (failed) {
+        return;
+      }
+      try {
+        action.run();
+      } catch (RuntimeException e) {
+        failed = true;
+        errorHandler.handle(check, context, e);
+      }
+    }
+  }
+}
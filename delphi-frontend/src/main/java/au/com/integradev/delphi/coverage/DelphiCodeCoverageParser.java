@@ -23,28 +23,39 @@
 package au.com.integradev.delphi.coverage;
 
 import au.com.integradev.delphi.msbuild.DelphiProjectHelper;
-import com.google.common.base.Splitter;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
-import javax.xml.XMLConstants;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.sonar.api.batch.fs.InputFile;
 import org.sonar.api.batch.sensor.SensorContext;
 import org.sonar.api.batch.sensor.coverage.NewCoverage;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.SAXException;
 
 public class DelphiCodeCoverageParser implements DelphiCoverageParser {
   private static final Logger LOG = LoggerFactory.getLogger(DelphiCodeCoverageParser.class);
+  private static final String LINE_HITS_ELEMENT = "linehits";
+  private static final String FILE_ELEMENT = "file";
+  private static final String NAME_ATTRIBUTE = "name";
   private final DelphiProjectHelper delphiProjectHelper;
   private final Supplier<Map<String, InputFile>> fileNameToInputFile;
 
@@ -63,78 +74,277 @@ public class DelphiCodeCoverageParser implements DelphiCoverageParser {
 
   @Override
   public void parse(SensorContext context, File reportFile) {
-    if (!reportFile.exists()) {
-      LOG.warn("Report file '{}' does not exist", reportFile);
-      return;
+    parse(context, List.of(reportFile));
+  }
+
+  @Override
+  public void parse(SensorContext context, List<File> reportFiles) {
+    List<File> existingReportFiles = new ArrayList<>();
+    for (File reportFile : reportFiles) {
+      if (reportFile.exists()) {
+        existingReportFiles.add(reportFile);
+      } else {
+        LOG.warn("Report file '{}' does not exist", reportFile);
+      }
     }
 
-    LOG.info("Parsing coverage report: {}", reportFile);
-    parseReportFile(context, reportFile);
+    Map<InputFile, LineHits> lineHitsByFile = new LinkedHashMap<>();
+    for (Map<InputFile, LineHits> report : parseReportFiles(existingReportFiles)) {
+      report.forEach(
+          (inputFile, lineHits) -> lineHitsByFile.merge(inputFile, lineHits, LineHits::merge));
+    }
+
+    lineHitsByFile.forEach((inputFile, lineHits) -> saveCoverage(context, inputFile, lineHits));
   }
 
-  private void parseReportFile(SensorContext sensorContext, File reportFile) {
+  private List<Map<InputFile, LineHits>> parseReportFiles(List<File> reportFiles) {
+    // Prime the input file index before any worker threads use it
+    fileNameToInputFile.get();
+
+    int threads = Math.min(delphiProjectHelper.getThreads(), reportFiles.size());
+    if (threads <= 1) {
+      List<Map<InputFile, LineHits>> result = new ArrayList<>();
+      for (File reportFile : reportFiles) {
+        result.add(parseReportFile(reportFile));
+      }
+      return result;
+    }
+
+    ExecutorService executorService =
+        Executors.newFixedThreadPool(
+            threads,
+            new ThreadFactoryBuilder().setNameFormat("delphi-coverage-%d").setDaemon(true).build());
+
     try {
-      DocumentBuilderFactory docBuilderFactory = DocumentBuilderFactory.newInstance();
-      docBuilderFactory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-      docBuilderFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
-      docBuilderFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
-      DocumentBuilder docBuilder = docBuilderFactory.newDocumentBuilder();
-      Document doc = docBuilder.parse(reportFile);
-
-      doc.getDocumentElement().normalize();
-
-      NodeList dataNodes = doc.getElementsByTagName("linehits");
-      Element lineHits = (Element) dataNodes.item(0);
-      if (lineHits == null) {
-        LOG.warn("'linehits' element not found in coverage report: {}", reportFile);
-        return;
+      List<Future<Map<InputFile, LineHits>>> futures = new ArrayList<>();
+      for (File reportFile : reportFiles) {
+        futures.add(executorService.submit(() -> parseReportFile(reportFile)));
       }
 
-      NodeList files = lineHits.getElementsByTagName("file");
-      for (int i = 0; i < files.getLength(); i++) {
-        parseFileNode(sensorContext, files.item(i));
+      List<Map<InputFile, LineHits>> result = new ArrayList<>();
+      for (Future<Map<InputFile, LineHits>> future : futures) {
+        result.add(awaitReport(future));
       }
-    } catch (SAXException e) {
+      return result;
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  private static Map<InputFile, LineHits> awaitReport(Future<Map<InputFile, LineHits>> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while parsing coverage reports", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+
+  private Map<InputFile, LineHits> parseReportFile(File reportFile) {
+    LOG.info("Parsing coverage report: {}", reportFile);
+    try (InputStream stream = new BufferedInputStream(new FileInputStream(reportFile))) {
+      XMLStreamReader reader = createInputFactory().createXMLStreamReader(stream);
+      try {
+        return parseReport(reader, reportFile);
+      } finally {
+        reader.close();
+      }
+    } catch (XMLStreamException e) {
       LOG.error("Failed to parse coverage report: ", e);
     } catch (Exception e) {
       LOG.error("Unexpected exception while parsing coverage reports: ", e);
     }
+    return Collections.emptyMap();
+  }
+
+  private static XMLInputFactory createInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+    return factory;
+  }
+
+  /**
+   * Streams through a report, collecting the line hits of each {@code linehits/file} element.
+   * Nothing is saved until the whole report has been read, so a malformed report contributes no
+   * coverage at all.
+   */
+  private Map<InputFile, LineHits> parseReport(XMLStreamReader reader, File reportFile)
+      throws XMLStreamException {
+    Map<InputFile, LineHits> result = new LinkedHashMap<>();
+    boolean foundLineHits = false;
+    boolean inLineHits = false;
+
+    while (reader.hasNext()) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        String element = reader.getLocalName();
+        if (!foundLineHits && LINE_HITS_ELEMENT.equals(element)) {
+          foundLineHits = true;
+          inLineHits = true;
+        } else if (inLineHits && FILE_ELEMENT.equals(element)) {
+          parseFileElement(reader, result);
+        }
+      } else if (event == XMLStreamConstants.END_ELEMENT
+          && LINE_HITS_ELEMENT.equals(reader.getLocalName())) {
+        inLineHits = false;
+      }
+    }
+
+    if (!foundLineHits) {
+      LOG.warn("'linehits' element not found in coverage report: {}", reportFile);
+    }
+
+    return result;
   }
 
-  private void parseFileNode(SensorContext sensorContext, Node srcFile) {
-    String fileName = srcFile.getAttributes().getNamedItem("name").getTextContent();
-    InputFile sourceFile = fileNameToInputFile.get().get(fileName);
+  private void parseFileElement(XMLStreamReader reader, Map<InputFile, LineHits> result)
+      throws XMLStreamException {
+    String fileName = reader.getAttributeValue(null, NAME_ATTRIBUTE);
+    InputFile sourceFile = fileName == null ? null : fileNameToInputFile.get().get(fileName);
     if (sourceFile == null) {
       LOG.debug("File not found in project: {}", fileName);
-      return;
+    } else {
+      LOG.debug("Parsing line hit information for file: {}", fileName);
     }
 
-    LOG.debug("Parsing line hit information for file: {}", fileName);
+    LineHitReader lineHitReader =
+        sourceFile == null
+            ? null
+            : new LineHitReader(
+                result.computeIfAbsent(sourceFile, file -> new LineHits(file.lines())));
 
-    NewCoverage newCoverage = sensorContext.newCoverage();
-    newCoverage.onFile(sourceFile);
+    int depth = 0;
+    while (reader.hasNext()) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        ++depth;
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        if (depth == 0) {
+          break;
+        }
+        --depth;
+      } else if (lineHitReader != null && isText(event)) {
+        lineHitReader.read(
+            reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+      }
+    }
 
-    parseValue(srcFile.getTextContent(), newCoverage, sourceFile.lines());
-    newCoverage.save();
+    if (lineHitReader != null) {
+      lineHitReader.finish();
+    }
+  }
+
+  private static boolean isText(int event) {
+    return event == XMLStreamConstants.CHARACTERS
+        || event == XMLStreamConstants.CDATA
+        || event == XMLStreamConstants.SPACE;
   }
 
-  private static void parseValue(String lineCoverage, NewCoverage newCoverage, int numLines) {
-    Splitter.on(';')
-        .split(lineCoverage)
-        .forEach(lineHit -> parseLineHit(lineHit, numLines, newCoverage));
+  private static void saveCoverage(SensorContext context, InputFile inputFile, LineHits lineHits) {
+    NewCoverage newCoverage = context.newCoverage();
+    newCoverage.onFile(inputFile);
+    lineHits.forEach(newCoverage::lineHits);
+    newCoverage.save();
   }
 
-  private static void parseLineHit(String lineHit, int numLines, NewCoverage newCoverage) {
-    int eq = lineHit.indexOf('=');
-    if (eq > 0) {
-      int lineNumber = Integer.parseInt(lineHit.substring(0, eq));
-      int lineHits = Integer.parseInt(lineHit.substring(eq + 1));
-      if (lineNumber > numLines) {
+  /** Hit counts for each line of a source file. */
+  private static final class LineHits {
+    private static final int NO_HITS = -1;
+    private final int[] hits;
+
+    private LineHits(int numLines) {
+      hits = new int[numLines + 1];
+      Arrays.fill(hits, NO_HITS);
+    }
+
+    private void add(int lineNumber, int lineHits) {
+      if (lineNumber > hits.length - 1) {
         LOG.debug(
             "skipping line hit on line {} because it's beyond the end of the file", lineNumber);
-      } else {
-        newCoverage.lineHits(lineNumber, lineHits);
+      } else if (lineNumber > 0) {
+        hits[lineNumber] = hits[lineNumber] == NO_HITS ? lineHits : hits[lineNumber] + lineHits;
+      }
+    }
+
+    private LineHits merge(LineHits other) {
+      other.forEach(this::add);
+      return this;
+    }
+
+    private void forEach(LineHitConsumer consumer) {
+      for (int lineNumber = 1; lineNumber < hits.length; ++lineNumber) {
+        if (hits[lineNumber] != NO_HITS) {
+          consumer.accept(lineNumber, hits[lineNumber]);
+        }
+      }
+    }
+  }
+
+  @FunctionalInterface
+  private interface LineHitConsumer {
+    void accept(int lineNumber, int lineHits);
+  }
+
+  /**
+   * Parses {@code "line=hits;line=hits"} text from character buffers as they are streamed, without
+   * materializing the text. Pairs that aren't well-formed are skipped.
+   */
+  private static final class LineHitReader {
+    private static final int MAX_VALUE = (Integer.MAX_VALUE - 9) / 10;
+    private final LineHits lineHits;
+    private int lineNumber = -1;
+    private int value;
+    private boolean hasDigits;
+    private boolean valid = true;
+
+    private LineHitReader(LineHits lineHits) {
+      this.lineHits = lineHits;
+    }
+
+    private void read(char[] chars, int start, int length) {
+      for (int i = start; i < start + length; ++i) {
+        char c = chars[i];
+        if (c == ';') {
+          finish();
+        } else if (c == '=' && lineNumber == -1 && hasDigits) {
+          lineNumber = value;
+          value = 0;
+          hasDigits = false;
+        } else if (c >= '0' && c <= '9') {
+          if (value > MAX_VALUE) {
+            // Too many digits to fit in an int
+            valid = false;
+          } else {
+            value = value * 10 + (c - '0');
+          }
+          hasDigits = true;
+        } else if (!Character.isWhitespace(c)) {
+          valid = false;
+        }
+      }
+    }
+
+    private void finish() {
+      if (lineNumber != -1 && valid && hasDigits) {
+        lineHits.add(lineNumber, value);
+      } else if (lineNumber != -1 || hasDigits || !valid) {
+        LOG.debug("Skipping malformed line hit for line {}", lineNumber);
       }
+      lineNumber = -1;
+      value = 0;
+      hasDigits = false;
+      valid = true;
     }
   }
 }
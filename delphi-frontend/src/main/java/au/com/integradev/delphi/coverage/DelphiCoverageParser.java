@@ -23,8 +23,20 @@
 package au.com.integradev.delphi.coverage;
 
 import java.io.File;
+import java.util.List;
 import org.sonar.api.batch.sensor.SensorContext;
 
 public interface DelphiCoverageParser {
   void parse(SensorContext context, File reportFile);
+
+  /**
+   * Parses a set of coverage reports. Implementations may parse the reports concurrently, in which
+   * case the coverage of each source file is merged across the reports before it is saved.
+   *
+   * @param context the sensor context
+   * @param reportFiles the coverage report files
+   */
+  default void parse(SensorContext context, List<File> reportFiles) {
+    reportFiles.forEach(reportFile -> parse(context, reportFile));
+  }
 }
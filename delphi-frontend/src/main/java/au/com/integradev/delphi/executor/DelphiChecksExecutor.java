@@ -20,10 +20,13 @@ package au.com.integradev.delphi.executor;
 
 import au.com.integradev.delphi.check.DelphiCheckContextImpl;
 import au.com.integradev.delphi.check.MasterCheckRegistrar;
+import au.com.integradev.delphi.check.SubscriptionCheckDispatcher;
 import au.com.integradev.delphi.compiler.Platform;
 import au.com.integradev.delphi.file.DelphiFile.DelphiInputFile;
 import au.com.integradev.delphi.msbuild.DelphiProjectHelper;
 import au.com.integradev.delphi.preprocessor.directive.CompilerDirectiveParserImpl;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
 import org.slf4j.Logger;
@@ -35,6 +38,7 @@ import org.sonar.api.rule.RuleScope;
 import org.sonar.api.utils.AnnotationUtils;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
 import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
 import org.sonar.plugins.communitydelphi.api.check.SonarLintUnsupported;
 import org.sonar.plugins.communitydelphi.api.directive.CompilerDirectiveParser;
 
@@ -56,6 +60,10 @@ public class DelphiChecksExecutor implements Executor {
 
   @Override
   public void execute(Context context, DelphiInputFile delphiFile) {
+    if (context.isUnchanged(delphiFile)) {
+      return;
+    }
+
     Platform platform = delphiProjectHelper.getToolchain().platform;
     CompilerDirectiveParser compilerDirectiveParser =
         new CompilerDirectiveParserImpl(platform, delphiFile.getTextBlockLineEndingModeRegistry());
@@ -68,35 +76,52 @@ public class DelphiChecksExecutor implements Executor {
                 compilerDirectiveParser,
                 checkRegistrar);
 
-    runChecks(RuleScope.ALL, createCheckContext);
+    List<DelphiCheck> checks = new ArrayList<>(checkRegistrar.getChecks(RuleScope.ALL));
     // Main files may contain test code.
-    runChecks(RuleScope.TEST, createCheckContext);
+    checks.addAll(checkRegistrar.getChecks(RuleScope.TEST));
     // Test files do not contain main code.
     if (delphiFile.getInputFile().type() != InputFile.Type.TEST) {
-      runChecks(RuleScope.MAIN, createCheckContext);
+      checks.addAll(checkRegistrar.getChecks(RuleScope.MAIN));
     }
+
+    runChecks(checks, delphiFile, createCheckContext);
   }
 
   private void runChecks(
-      RuleScope scope, Function<DelphiCheck, DelphiCheckContext> createCheckContext) {
-    checkRegistrar.getChecks(scope).stream()
+      List<DelphiCheck> checks,
+      DelphiInputFile delphiFile,
+      Function<DelphiCheck, DelphiCheckContext> createCheckContext) {
+    SubscriptionCheckDispatcher dispatcher =
+        new SubscriptionCheckDispatcher(DelphiChecksExecutor::handleCheckError);
+
+    checks.stream()
         .filter(this::isCheckSupportedOnPlatform)
         .forEach(
             check -> {
               DelphiCheckContext context = createCheckContext.apply(check);
+              if (check instanceof DelphiSubscriptionCheck) {
+                dispatcher.add((DelphiSubscriptionCheck) check, context);
+                return;
+              }
               try {
                 check.start(context);
                 check.visit(context.getAst(), context);
                 check.end(context);
               } catch (Exception e) {
-                LOG.error(
-                    "Error occurred while running check {} on file: {}",
-                    check.getClass().getSimpleName(),
-                    context.getAst().getDelphiFile().getSourceCodeFile().getName(),
-                    e);
-                LOG.info("Continuing with next check.");
+                handleCheckError(check, context, e);
               }
             });
+
+    dispatcher.run(delphiFile.getAst());
+  }
+
+  private static void handleCheckError(DelphiCheck check, DelphiCheckContext context, Exception e) {
+    LOG.error(
+        "Error occurred while running check {} on file: {}",
+        check.getClass().getSimpleName(),
+        context.getAst().getDelphiFile().getSourceCodeFile().getName(),
+        e);
+    LOG.info("Continuing with next check.");
   }
 
   private boolean isCheckSupportedOnPlatform(DelphiCheck check) {
@@ -106,6 +131,6 @@ public class DelphiChecksExecutor implements Executor {
 
   @Override
   public Set<Class<? extends Executor>> dependencies() {
-    return Set.of(DelphiSymbolTableExecutor.class, DelphiNoSonarExecutor.class);
+    return Set.of(DelphiSymbolTableExecutor.class, DelphiTokenExecutor.class);
   }
 }
@@ -19,42 +19,44 @@
 package au.com.integradev.delphi.executor;
 
 import au.com.integradev.delphi.file.DelphiFile.DelphiInputFile;
+import java.util.HashMap;
+import java.util.Map;
 import org.sonar.api.batch.sensor.SensorContext;
 import org.sonar.api.batch.sensor.cpd.NewCpdTokens;
 import org.sonar.plugins.communitydelphi.api.token.DelphiToken;
 import org.sonar.plugins.communitydelphi.api.token.DelphiTokenType;
 
-public class DelphiCpdExecutor extends DelphiTokenExecutor {
+public class DelphiCpdExecutor implements DelphiTokenConsumer {
   static final String STRING_LITERAL = "STRING_LITERAL";
   static final String NUMERIC_LITERAL = "NUMERIC_LITERAL";
 
-  private NewCpdTokens cpdTokens;
-
   @Override
-  public void onFile(SensorContext context, DelphiInputFile delphiFile) {
-    cpdTokens = context.newCpdTokens().onFile(delphiFile.getInputFile());
-  }
+  public TokenHandler onFile(SensorContext context, DelphiInputFile delphiFile) {
+    NewCpdTokens cpdTokens = context.newCpdTokens().onFile(delphiFile.getInputFile());
+    Map<String, String> lowerCaseImages = new HashMap<>();
+    return new TokenHandler() {
+      @Override
+      public void handleToken(DelphiToken token) {
+        if (token.isWhitespace() || token.isComment()) {
+          return;
+        }
 
-  @Override
-  public void handleToken(DelphiToken token) {
-    if (token.isWhitespace() || token.isComment()) {
-      return;
-    }
+        cpdTokens.addToken(
+            token.getBeginLine(),
+            token.getBeginColumn(),
+            token.getEndLine(),
+            token.getEndColumn(),
+            getNormalizedImage(token, lowerCaseImages));
+      }
 
-    cpdTokens.addToken(
-        token.getBeginLine(),
-        token.getBeginColumn(),
-        token.getEndLine(),
-        token.getEndColumn(),
-        getNormalizedImage(token));
-  }
-
-  @Override
-  public void save() {
-    cpdTokens.save();
+      @Override
+      public void save() {
+        cpdTokens.save();
+      }
+    };
   }
 
-  private static String getNormalizedImage(DelphiToken token) {
+  private static String getNormalizedImage(DelphiToken token, Map<String, String> lowerCaseImages) {
     if (token.getType() == DelphiTokenType.QUOTED_STRING) {
       return STRING_LITERAL;
     }
@@ -63,7 +65,9 @@ public class DelphiCpdExecutor extends DelphiTokenExecutor {
       return NUMERIC_LITERAL;
     }
 
-    return token.getImage().toLowerCase();
+    // Identifiers and keywords repeat throughout a file, so each distinct image is only lowercased
+    // once and every CPD token with that image shares the same string.
+    return lowerCaseImages.computeIfAbsent(token.getImage(), String::toLowerCase);
   }
 
   private static boolean isNumericLiteral(DelphiToken token) {
@@ -22,7 +22,7 @@ import au.com.integradev.delphi.antlr.ast.visitors.MetricsVisitor;
 import au.com.integradev.delphi.antlr.ast.visitors.MetricsVisitor.Data;
 import au.com.integradev.delphi.file.DelphiFile.DelphiInputFile;
 import java.io.Serializable;
-import java.util.Set;
+import java.util.BitSet;
 import org.sonar.api.batch.sensor.SensorContext;
 import org.sonar.api.measures.CoreMetrics;
 import org.sonar.api.measures.FileLinesContext;
@@ -31,9 +31,7 @@ import org.sonar.api.measures.Metric;
 
 public class DelphiMetricsExecutor implements Executor {
   private static final MetricsVisitor VISITOR = new MetricsVisitor();
-  private SensorContext context;
   private final FileLinesContextFactory fileLinesContextFactory;
-  private DelphiInputFile file;
 
   public DelphiMetricsExecutor(FileLinesContextFactory fileLinesContextFactory) {
     this.fileLinesContextFactory = fileLinesContextFactory;
@@ -41,32 +39,39 @@ public class DelphiMetricsExecutor implements Executor {
 
   @Override
   public void execute(Context context, DelphiInputFile file) {
-    this.context = context.sensorContext();
-    this.file = file;
-
     Data metrics = VISITOR.visit(file.getAst(), new Data());
+    Context.runExclusively(context, () -> save(context.sensorContext(), file, metrics));
+  }
+
+  @Override
+  public boolean isThreadSafe() {
+    return true;
+  }
 
-    saveMetricOnFile(CoreMetrics.CLASSES, metrics.getClasses());
-    saveMetricOnFile(CoreMetrics.FUNCTIONS, metrics.getRoutines());
-    saveMetricOnFile(CoreMetrics.COMPLEXITY, metrics.getComplexity());
-    saveMetricOnFile(CoreMetrics.COMMENT_LINES, metrics.getCommentLines());
-    saveMetricOnFile(CoreMetrics.STATEMENTS, metrics.getStatements());
-    saveMetricOnFile(CoreMetrics.COGNITIVE_COMPLEXITY, metrics.getCognitiveComplexity());
+  private void save(SensorContext context, DelphiInputFile file, Data metrics) {
+    saveMetricOnFile(context, file, CoreMetrics.CLASSES, metrics.getClasses());
+    saveMetricOnFile(context, file, CoreMetrics.FUNCTIONS, metrics.getRoutines());
+    saveMetricOnFile(context, file, CoreMetrics.COMPLEXITY, metrics.getComplexity());
+    saveMetricOnFile(context, file, CoreMetrics.COMMENT_LINES, metrics.getCommentLines());
+    saveMetricOnFile(context, file, CoreMetrics.STATEMENTS, metrics.getStatements());
+    saveMetricOnFile(
+        context, file, CoreMetrics.COGNITIVE_COMPLEXITY, metrics.getCognitiveComplexity());
 
-    Set<Integer> codeLines = metrics.getCodeLines();
-    saveMetricOnFile(CoreMetrics.NCLOC, codeLines.size());
-    saveCodeLinesOnFile(codeLines);
+    BitSet codeLines = metrics.getCodeLines();
+    saveMetricOnFile(context, file, CoreMetrics.NCLOC, codeLines.cardinality());
+    saveCodeLinesOnFile(file, codeLines);
   }
 
-  private <T extends Serializable> void saveMetricOnFile(Metric<T> metric, T value) {
+  private static <T extends Serializable> void saveMetricOnFile(
+      SensorContext context, DelphiInputFile file, Metric<T> metric, T value) {
     context.<T>newMeasure().forMetric(metric).on(file.getInputFile()).withValue(value).save();
   }
 
-  private void saveCodeLinesOnFile(Set<Integer> codeLines) {
+  private void saveCodeLinesOnFile(DelphiInputFile file, BitSet codeLines) {
     FileLinesContext fileLinesContext = fileLinesContextFactory.createFor(file.getInputFile());
     for (int line = 1; line <= file.getInputFile().lines(); line++) {
       fileLinesContext.setIntValue(
-          CoreMetrics.NCLOC_DATA_KEY, line, codeLines.contains(line) ? 1 : 0);
+          CoreMetrics.NCLOC_DATA_KEY, line, codeLines.get(line) ? 1 : 0);
     }
     fileLinesContext.save();
   }
@@ -21,12 +21,12 @@ package au.com.integradev.delphi.executor;
 import au.com.integradev.delphi.file.DelphiFile.DelphiInputFile;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.regex.Pattern;
+import org.sonar.api.batch.sensor.SensorContext;
 import org.sonar.api.issue.NoSonarFilter;
 import org.sonar.plugins.communitydelphi.api.token.DelphiToken;
 
-public class DelphiNoSonarExecutor implements Executor {
-  private static final Pattern PATTERN = Pattern.compile(".*\\bNOSONAR\\b.*");
+public class DelphiNoSonarExecutor implements DelphiTokenConsumer {
+  private static final String NOSONAR = "NOSONAR";
 
   private final NoSonarFilter noSonarFilter;
 
@@ -35,15 +35,67 @@ public class DelphiNoSonarExecutor implements Executor {
   }
 
   @Override
-  public void execute(Context context, DelphiInputFile delphiFile) {
+  public TokenHandler onFile(SensorContext context, DelphiInputFile delphiFile) {
     Set<Integer> noSonarLines = new HashSet<>();
-    for (DelphiToken token : delphiFile.getComments()) {
-      if (PATTERN.matcher(token.getImage()).matches()) {
-        noSonarLines.add(token.getBeginLine());
+    return new TokenHandler() {
+      @Override
+      public void handleToken(DelphiToken token) {
+        if (token.isComment() && isNoSonarComment(token.getImage())) {
+          noSonarLines.add(token.getBeginLine());
+        }
       }
+
+      @Override
+      public void save() {
+        if (!noSonarLines.isEmpty()) {
+          noSonarFilter.noSonarInFile(delphiFile.getInputFile(), noSonarLines);
+        }
+      }
+    };
+  }
+
+  /**
+   * Whether a comment contains {@code NOSONAR} as a whole word. This is equivalent to matching the
+   * whole comment against {@code .*\bNOSONAR\b.*}, so comments spanning multiple lines never match.
+   *
+   * @param image The comment image
+   * @return true if the comment is a NOSONAR comment
+   */
+  static boolean isNoSonarComment(String image) {
+    int index = image.indexOf(NOSONAR);
+    if (index == -1 || containsLineTerminator(image)) {
+      return false;
     }
-    if (!noSonarLines.isEmpty()) {
-      noSonarFilter.noSonarInFile(delphiFile.getInputFile(), noSonarLines);
+
+    do {
+      int end = index + NOSONAR.length();
+      if ((index == 0 || !isWordChar(image.charAt(index - 1)))
+          && (end == image.length() || !isWordChar(image.charAt(end)))) {
+        return true;
+      }
+      index = image.indexOf(NOSONAR, index + 1);
+    } while (index != -1);
+
+    return false;
+  }
+
+  private static boolean containsLineTerminator(String image) {
+    for (int i = 0; i < image.length(); ++i) {
+      switch (image.charAt(i)) {
+        case '\n':
+        case '\r':
+        case '\u0085':
+        case '\u2028':
+        case '\u2029':
+          return true;
+        default:
+          // Keep looking
+      }
     }
+    return false;
+  }
+
+  private static boolean isWordChar(char c) {
+    return Character.isLetterOrDigit(c) || c == '_';
   }
 }
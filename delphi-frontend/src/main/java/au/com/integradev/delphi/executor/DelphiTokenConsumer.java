@@ -0,0 +1,51 @@
+/*
+ * Sonar Delphi Plugin
+ * Copyright (C) 2026 Integrated Application Development
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02
+ */
+package au.com.integradev.delphi.executor;
+
+import au.com.integradev.delphi.file.DelphiFile.DelphiInputFile;
+import org.sonar.api.batch.sensor.SensorContext;
+import org.sonar.api.scanner.ScannerSide;
+import org.sonar.plugins.communitydelphi.api.token.DelphiToken;
+import org.sonarsource.api.sonarlint.SonarLintSide;
+
+/**
+ * Consumes the tokens of each file. Every registered consumer is driven by {@link
+ * DelphiTokenExecutor}, which walks the token stream of a file once and hands each token to all of
+ * them.
+ */
+@ScannerSide
+@SonarLintSide
+public interface DelphiTokenConsumer {
+  /**
+   * Creates a handler for the tokens of a file. All per-file state lives in the handler, so that
+   * multiple files can be processed concurrently.
+   *
+   * @param context The sensor context
+   * @param file The file being processed
+   * @return handler for the tokens of the file
+   */
+  TokenHandler onFile(SensorContext context, DelphiInputFile file);
+
+  interface TokenHandler {
+    void handleToken(DelphiToken token);
+
+    /** Saves the results for the file. This is always called while holding the shared lock. */
+    void save();
+  }
+}
@@ -18,24 +18,76 @@
  */
 package au.com.integradev.delphi.executor;
 
+import au.com.integradev.delphi.executor.DelphiTokenConsumer.TokenHandler;
 import au.com.integradev.delphi.file.DelphiFile.DelphiInputFile;
-import org.sonar.api.batch.sensor.SensorContext;
+import java.util.Arrays;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sonar.plugins.communitydelphi.api.FatalAnalysisError;
 import org.sonar.plugins.communitydelphi.api.token.DelphiToken;
 
-public abstract class DelphiTokenExecutor implements Executor {
+/**
+ * Walks the token stream of each file once, dispatching every token to the handlers of all
+ * registered {@link DelphiTokenConsumer}s.
+ *
+ * <p>A consumer that fails on a file is dropped for the rest of that file and its results aren't
+ * saved, without affecting the other consumers.
+ */
+public class DelphiTokenExecutor implements Executor {
+  private static final Logger LOG = LoggerFactory.getLogger(DelphiTokenExecutor.class);
+  private final List<DelphiTokenConsumer> consumers;
+
+  public DelphiTokenExecutor(DelphiTokenConsumer... consumers) {
+    this.consumers = Arrays.asList(consumers);
+  }
 
   @Override
   public void execute(Context context, DelphiInputFile delphiFile) {
-    onFile(context.sensorContext(), delphiFile);
+    TokenHandler[] handlers = new TokenHandler[consumers.size()];
+    for (int i = 0; i < handlers.length; ++i) {
+      handlers[i] = consumers.get(i).onFile(context.sensorContext(), delphiFile);
+    }
+
     for (DelphiToken token : delphiFile.getTokens()) {
-      handleToken(token);
+      for (int i = 0; i < handlers.length; ++i) {
+        if (handlers[i] != null) {
+          try {
+            handlers[i].handleToken(token);
+          } catch (RuntimeException e) {
+            handleFailure(e, i, delphiFile);
+            handlers[i] = null;
+          }
+        }
+      }
     }
-    save();
+
+    Context.runExclusively(context, () -> save(handlers, delphiFile));
   }
 
-  protected abstract void onFile(SensorContext context, DelphiInputFile file);
+  private void save(TokenHandler[] handlers, DelphiInputFile delphiFile) {
+    for (int i = 0; i < handlers.length; ++i) {
+      if (handlers[i] != null) {
+        try {
+          handlers[i].save();
+        } catch (RuntimeException e) {
+          handleFailure(e, i, delphiFile);
+        }
+      }
+    }
+  }
 
-  protected abstract void handleToken(DelphiToken token);
+  private void handleFailure(RuntimeException e, int consumerIndex, DelphiInputFile delphiFile) {
+    if (e instanceof FatalAnalysisError) {
+      throw e;
+    }
+    String consumerName = consumers.get(consumerIndex).getClass().getSimpleName();
+    String fileName = delphiFile.getSourceCodeFile().getName();
+    LOG.error("Error occurred while running {} on file: {}", consumerName, fileName, e);
+  }
 
-  protected abstract void save();
+  @Override
+  public boolean isThreadSafe() {
+    return true;
+  }
 }
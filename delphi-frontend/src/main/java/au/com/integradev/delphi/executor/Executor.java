@@ -22,6 +22,7 @@ import au.com.integradev.delphi.file.DelphiFile.DelphiInputFile;
 import au.com.integradev.delphi.symbol.SymbolTable;
 import java.util.Collections;
 import java.util.Set;
+import javax.annotation.Nullable;
 import org.sonar.api.batch.sensor.SensorContext;
 import org.sonar.api.scanner.ScannerSide;
 import org.sonarsource.api.sonarlint.SonarLintSide;
@@ -39,6 +40,19 @@ public interface Executor {
     return Collections.emptySet();
   }
 
+  /**
+   * Whether this executor can run on multiple files concurrently.
+   *
+   * <p>Thread-safe executors must not keep per-file state in fields, and must save to the sensor
+   * context via {@link Context#runExclusively(Context, Runnable)}. Executors that aren't
+   * thread-safe are always run exclusively.
+   *
+   * @return true if this executor is thread-safe
+   */
+  default boolean isThreadSafe() {
+    return false;
+  }
+
   interface Context {
     /**
      * Returns the sensor context
@@ -53,5 +67,48 @@ public interface Executor {
      * @return The global scope of the symbol table
      */
     SymbolTable symbolTable();
+
+    /**
+     * Returns whether a file is unchanged since the previous analysis and doesn't depend on any
+     * changed files, meaning that its issues would be the same as before.
+     *
+     * <p>This is only ever true when the platform allows unchanged files to be skipped, such as in
+     * pull request analyses.
+     *
+     * @param file The file being analyzed
+     * @return true if issues don't need to be raised on the file
+     * @see SensorContext#canSkipUnchangedFiles()
+     */
+    default boolean isUnchanged(DelphiInputFile file) {
+      return false;
+    }
+
+    /**
+     * Returns the lock guarding state that is shared between files, such as the sensor context and
+     * the symbol table.
+     *
+     * @return The shared lock, or null if files are not being analyzed concurrently
+     */
+    @Nullable
+    default Object lock() {
+      return null;
+    }
+
+    /**
+     * Runs an action while holding the shared lock, if files are being analyzed concurrently
+     *
+     * @param context The executor context
+     * @param action The action to run
+     */
+    static void runExclusively(Context context, Runnable action) {
+      Object lock = context.lock();
+      if (lock == null) {
+        action.run();
+      } else {
+        synchronized (lock) {
+          action.run();
+        }
+      }
+    }
   }
 }
@@ -18,17 +18,37 @@
  */
 package au.com.integradev.delphi.executor;
 
+import au.com.integradev.delphi.file.DelphiFile.DelphiInputFile;
 import au.com.integradev.delphi.symbol.SymbolTable;
+import java.util.Collections;
+import java.util.Set;
+import javax.annotation.Nullable;
 import org.sonar.api.batch.sensor.SensorContext;
 
 public class ExecutorContext implements Executor.Context {
 
   private final SensorContext sensorContext;
   private final SymbolTable symbolTable;
+  private final Object lock;
+  private final Set<String> unchangedFiles;
 
   public ExecutorContext(SensorContext sensorContext, SymbolTable symbolTable) {
+    this(sensorContext, symbolTable, false);
+  }
+
+  public ExecutorContext(SensorContext sensorContext, SymbolTable symbolTable, boolean concurrent) {
+    this(sensorContext, symbolTable, concurrent, Collections.emptySet());
+  }
+
+  public ExecutorContext(
+      SensorContext sensorContext,
+      SymbolTable symbolTable,
+      boolean concurrent,
+      Set<String> unchangedFiles) {
     this.sensorContext = sensorContext;
     this.symbolTable = symbolTable;
+    this.lock = concurrent ? new Object() : null;
+    this.unchangedFiles = unchangedFiles;
   }
 
   @Override
@@ -40,4 +60,15 @@ public class ExecutorContext implements Executor.Context {
   public SymbolTable symbolTable() {
     return symbolTable;
   }
+
+  @Override
+  public boolean isUnchanged(DelphiInputFile file) {
+    return unchangedFiles.contains(file.getSourceCodeFile().getAbsolutePath());
+  }
+
+  @Override
+  @Nullable
+  public Object lock() {
+    return lock;
+  }
 }
@@ -21,7 +21,9 @@ package au.com.integradev.delphi.file;
 import au.com.integradev.delphi.preprocessor.CompilerSwitchRegistry;
 import au.com.integradev.delphi.preprocessor.TextBlockLineEndingModeRegistry;
 import java.io.File;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Set;
 import org.sonar.plugins.communitydelphi.api.ast.DelphiAst;
 import org.sonar.plugins.communitydelphi.api.token.DelphiToken;
 import org.sonar.plugins.communitydelphi.api.type.TypeFactory;
@@ -34,6 +36,7 @@ class DefaultDelphiFile implements DelphiFile {
   private List<DelphiToken> comments;
   private CompilerSwitchRegistry switchRegistry;
   private TextBlockLineEndingModeRegistry textBlockLineEndingModeRegistry;
+  private Set<Path> includedFiles;
   private TypeFactory typeFactory;
   private String encoding;
 
@@ -81,6 +84,11 @@ class DefaultDelphiFile implements DelphiFile {
     return textBlockLineEndingModeRegistry;
   }
 
+  @Override
+  public Set<Path> getIncludedFiles() {
+    return includedFiles;
+  }
+
   @Override
   public TypeFactory getTypeFactory() {
     return typeFactory;
@@ -119,6 +127,10 @@ class DefaultDelphiFile implements DelphiFile {
     this.textBlockLineEndingModeRegistry = textBlockLineEndingModeRegistry;
   }
 
+  void setIncludedFiles(Set<Path> includedFiles) {
+    this.includedFiles = Set.copyOf(includedFiles);
+  }
+
   void setTypeFactory(TypeFactory typeFactory) {
     this.typeFactory = typeFactory;
   }
@@ -35,6 +35,7 @@ import au.com.integradev.delphi.utils.DelphiUtils;
 import com.google.common.base.Splitter;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -66,6 +67,8 @@ public interface DelphiFile {
 
   TextBlockLineEndingModeRegistry getTextBlockLineEndingModeRegistry();
 
+  Set<Path> getIncludedFiles();
+
   TypeFactory getTypeFactory();
 
   interface DelphiInputFile extends DelphiFile {
@@ -79,6 +82,48 @@ public interface DelphiFile {
       return delphiFile;
     }
 
+    /**
+     * Binds an InputFile to a file that was already parsed ahead of time, falling back to parsing
+     * the InputFile from scratch if the parsed file can't be reused.
+     *
+     * <p>A parsed file can be reused if it was created via {@link #unbound(File, DelphiFileConfig)},
+     * has not been bound yet, and was parsed with the same encoding as the InputFile.
+     *
+     * @param inputFile The input file
+     * @param parsedFile A file that was parsed ahead of time, or null if none is available
+     * @param config The configuration to use if the file needs to be parsed again
+     * @return DelphiInputFile for the input file
+     */
+    static DelphiInputFile from(
+        InputFile inputFile, @Nullable DelphiFile parsedFile, DelphiFileConfig config) {
+      if (parsedFile instanceof DefaultDelphiInputFile
+          && useInputFileEncoding(inputFile, config) == config) {
+        DefaultDelphiInputFile delphiFile = (DefaultDelphiInputFile) parsedFile;
+        if (delphiFile.getInputFile() == null) {
+          delphiFile.setInputFile(inputFile);
+          return delphiFile;
+        }
+      }
+      return from(inputFile, config);
+    }
+
+    /**
+     * Parses a source file into a DelphiInputFile that is not yet bound to an InputFile.
+     *
+     * <p>This allows a file to be parsed before the InputFile is available (e.g. during symbol
+     * table construction) and then handed off via {@link #from(InputFile, DelphiFile,
+     * DelphiFileConfig)}.
+     *
+     * @param sourceFile The source file
+     * @param config The file configuration
+     * @return Unbound DelphiInputFile
+     */
+    static DelphiInputFile unbound(File sourceFile, DelphiFileConfig config) {
+      DefaultDelphiInputFile delphiFile = new DefaultDelphiInputFile();
+      setupFile(delphiFile, sourceFile, config);
+      return delphiFile;
+    }
+
     private static DelphiFileConfig useInputFileEncoding(
         InputFile inputFile, DelphiFileConfig config) {
       if (inputFile.charset() != null && !inputFile.charset().name().equals(config.getEncoding())) {
@@ -151,6 +196,7 @@ public interface DelphiFile {
       delphiFile.setCompilerSwitchRegistry(preprocessor.getCompilerSwitchRegistry());
       delphiFile.setTextBlockLineEndingModeRegistry(
           preprocessor.getTextBlockLineEndingModeRegistry());
+      delphiFile.setIncludedFiles(preprocessor.getIncludedFiles());
       delphiFile.setSourceCodeLines(getSourceCodeLines(fileStream));
       delphiFile.setTokens(preprocessor.getRawTokens());
       delphiFile.setComments(extractComments(delphiFile.getTokens()));
@@ -43,4 +43,11 @@ public interface DelphiProject {
   List<Path> getBrowsingPathDirectories();
 
   Map<String, String> getUnitAliases();
+
+  /**
+   * Returns the project file along with every MSBuild file that it imports.
+   *
+   * @return the files that the project configuration was read from
+   */
+  List<Path> getProjectFiles();
 }
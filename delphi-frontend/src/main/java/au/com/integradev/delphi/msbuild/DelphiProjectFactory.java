@@ -59,10 +59,18 @@ final class DelphiProjectFactory {
     project.setBrowsingPath(createBrowsingPathDirectories(state, projectDirectory));
     project.setUnitAliases(createUnitAliases(state));
     project.setSourceFiles(sourceFiles);
+    project.setProjectFiles(createProjectFiles(state));
 
     return project;
   }
 
+  private static List<Path> createProjectFiles(MSBuildState state) {
+    List<Path> result = new ArrayList<>();
+    result.add(state.getThisFilePath());
+    result.addAll(state.getImportedFiles());
+    return result;
+  }
+
   private static Set<String> createDefinitions(MSBuildState state) {
     return Set.copyOf(propertyList(state.getProperty("DCC_Define")));
   }
@@ -165,6 +173,7 @@ final class DelphiProjectFactory {
     private List<Path> libraryPathDirectories = Collections.emptyList();
     private List<Path> browsingPathDirectories = Collections.emptyList();
     private Map<String, String> unitAliases = Collections.emptyMap();
+    private List<Path> projectFiles = Collections.emptyList();
 
     private void setDefinitions(Set<String> definitions) {
       this.definitions = ImmutableSortedSet.copyOf(String.CASE_INSENSITIVE_ORDER, definitions);
@@ -195,6 +204,10 @@ final class DelphiProjectFactory {
       this.browsingPathDirectories = List.copyOf(browsingPathDirectories);
     }
 
+    private void setProjectFiles(List<Path> projectFiles) {
+      this.projectFiles = List.copyOf(projectFiles);
+    }
+
     private void setUnitAliases(Map<String, String> unitAliases) {
       this.unitAliases = ImmutableSortedMap.copyOf(unitAliases, String.CASE_INSENSITIVE_ORDER);
     }
@@ -238,5 +251,10 @@ final class DelphiProjectFactory {
     public Map<String, String> getUnitAliases() {
       return unitAliases;
     }
+
+    @Override
+    public List<Path> getProjectFiles() {
+      return projectFiles;
+    }
   }
 }
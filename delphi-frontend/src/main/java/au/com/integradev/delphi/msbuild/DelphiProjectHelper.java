@@ -70,11 +70,13 @@ public class DelphiProjectHelper {
   private final List<DelphiProject> projects;
   private final Toolchain toolchain;
   private final CompilerVersion compilerVersion;
+  private final int threads;
   private final List<Path> searchDirectories;
   private final List<Path> debugSourceDirectories;
   private final List<Path> libraryPathDirectories;
   private final List<Path> browsingPathDirectories;
   private final List<Path> referencedFiles;
+  private final List<Path> projectFiles;
   private final Set<String> conditionalDefines;
   private final Set<String> unitScopeNames;
   private final Map<String, String> unitAliases;
@@ -96,11 +98,13 @@ public class DelphiProjectHelper {
     this.projects = new ArrayList<>();
     this.toolchain = getToolchainFromSettings();
     this.compilerVersion = getCompilerVersionFromSettings();
+    this.threads = getThreadsFromSettings();
     this.searchDirectories = getSearchDirectoriesFromSettings();
     this.debugSourceDirectories = new ArrayList<>();
     this.libraryPathDirectories = new ArrayList<>();
     this.browsingPathDirectories = new ArrayList<>();
     this.referencedFiles = new ArrayList<>();
+    this.projectFiles = new ArrayList<>();
     this.conditionalDefines = getPredefinedConditionalDefines();
     this.unitScopeNames = getSetFromSettings(DelphiProperties.UNIT_SCOPE_NAMES_KEY);
     this.unitAliases = getUnitAliasesFromSettings();
@@ -138,6 +142,15 @@ public class DelphiProjectHelper {
     }
   }
 
+  private int getThreadsFromSettings() {
+    int result =
+        settings.getInt(DelphiProperties.THREADS_KEY).orElse(DelphiProperties.THREADS_DEFAULT);
+    if (result <= 0) {
+      result = Runtime.getRuntime().availableProcessors();
+    }
+    return result;
+  }
+
   private List<Path> getSearchDirectoriesFromSettings() {
     String[] searchDirectoriesSetting =
         nullToEmpty(settings.getStringArray(DelphiProperties.SEARCH_PATH_KEY));
@@ -207,6 +220,7 @@ public class DelphiProjectHelper {
 
     inputFilesToPaths(dprojFiles).forEach(this::indexProject);
     inputFilesToPaths(gprojFiles).forEach(this::indexProjectGroup);
+    projectFiles.addAll(inputFilesToPaths(gprojFiles));
 
     for (DelphiProject project : projects) {
       searchDirectories.addAll(project.getSearchDirectories());
@@ -215,6 +229,7 @@ public class DelphiProjectHelper {
       browsingPathDirectories.addAll(project.getBrowsingPathDirectories());
       conditionalDefines.addAll(project.getConditionalDefines());
       referencedFiles.addAll(project.getSourceFiles());
+      projectFiles.addAll(project.getProjectFiles());
       unitScopeNames.addAll(project.getUnitScopeNames());
       unitAliases.putAll(project.getUnitAliases());
     }
@@ -307,6 +322,15 @@ public class DelphiProjectHelper {
     return toolchain;
   }
 
+  /**
+   * Get the number of threads to use for analysis
+   *
+   * @return the number of analysis threads
+   */
+  public int getThreads() {
+    return threads;
+  }
+
   /**
    * Gets the search directories specified in settings and project files
    *
@@ -382,6 +406,16 @@ public class DelphiProjectHelper {
     return referencedFiles;
   }
 
+  /**
+   * Gets the project and project group files, along with every MSBuild file that they import
+   *
+   * @return List of files that the project configuration was read from
+   */
+  public List<Path> getProjectFiles() {
+    indexProjects();
+    return projectFiles;
+  }
+
   public Iterable<InputFile> inputFiles() {
     FilePredicates p = fs.predicates();
     return fs.inputFiles(p.and(p.hasLanguage(Delphi.KEY)));
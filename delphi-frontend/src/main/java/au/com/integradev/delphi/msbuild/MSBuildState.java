@@ -23,13 +23,16 @@ import au.com.integradev.delphi.msbuild.expression.MSBuildWellKnownPropertyHelpe
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 
 public final class MSBuildState {
   private final Map<String, String> propertyMap;
   private final Map<String, List<MSBuildItem>> itemMap;
+  private final Set<Path> importedFiles = new LinkedHashSet<>();
   private final Path thisFilePath;
   private final Path projectPath;
   private final MSBuildWellKnownPropertyHelper wellKnownProperties;
@@ -75,6 +78,17 @@ public final class MSBuildState {
   public void absorbState(MSBuildState other) {
     propertyMap.putAll(other.propertyMap);
     itemMap.putAll(other.itemMap);
+    importedFiles.add(other.thisFilePath);
+    importedFiles.addAll(other.importedFiles);
+  }
+
+  /**
+   * Returns the files that were imported into this state, either directly or transitively.
+   *
+   * @return the imported files, in the order they were imported
+   */
+  public Set<Path> getImportedFiles() {
+    return Collections.unmodifiableSet(importedFiles);
   }
 
   public String getProperty(String name) {
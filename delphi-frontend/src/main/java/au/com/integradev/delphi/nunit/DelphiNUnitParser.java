@@ -18,21 +18,28 @@
  */
 package au.com.integradev.delphi.nunit;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import javax.xml.XMLConstants;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.filefilter.FileFilterUtils;
 import org.apache.commons.io.filefilter.TrueFileFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.w3c.dom.Document;
-import org.xml.sax.SAXException;
 
 /** Parses NUnit test reports from XML files. */
 public final class DelphiNUnitParser {
@@ -43,8 +50,19 @@ public final class DelphiNUnitParser {
   }
 
   public static ResultsAggregator collect(File reportsDir) {
+    return collect(reportsDir, 1);
+  }
+
+  /**
+   * Parses all reports in a directory, spreading the reports over a pool of worker threads.
+   *
+   * @param reportsDir directory containing the XML reports
+   * @param threads maximum number of reports to parse concurrently
+   * @return the aggregated results of every report
+   */
+  public static ResultsAggregator collect(File reportsDir, int threads) {
     LOG.info("Processing reports in {}", reportsDir);
-    return parseFiles(getReports(reportsDir));
+    return parseFiles(getReports(reportsDir), threads);
   }
 
   private static Collection<File> getReports(File path) {
@@ -63,9 +81,7 @@ public final class DelphiNUnitParser {
         dir, FileFilterUtils.suffixFileFilter(".xml"), TrueFileFilter.INSTANCE);
   }
 
-  private static NUnitFileParser getParserForFile(Document doc) {
-    String rootElementName = doc.getDocumentElement().getNodeName();
-
+  private static NUnitFileParser getParserForRootElement(String rootElementName) {
     if (rootElementName.equals("test-run")) {
       return new NUnit3FileParser();
     } else if (rootElementName.equals("test-results")) {
@@ -75,32 +91,83 @@ public final class DelphiNUnitParser {
     }
   }
 
-  private static void parse(File reportFile, ResultsAggregator results) {
-    try {
-      LOG.debug("Parsing NUnit report {}", reportFile);
-      DocumentBuilderFactory docBuilderFactory = DocumentBuilderFactory.newInstance();
-      docBuilderFactory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-      docBuilderFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
-      docBuilderFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
-      DocumentBuilder docBuilder = docBuilderFactory.newDocumentBuilder();
-      Document doc = docBuilder.parse(reportFile);
-
-      doc.getDocumentElement().normalize();
-
-      NUnitFileParser parser = getParserForFile(doc);
-      if (parser != null) {
-        parser.parse(doc, results);
-      } else {
-        LOG.error("Report '{}' is not a recognised NUnit format, skipping.", reportFile);
+  /**
+   * Parses a single report into its own aggregator, so that a report which turns out to be
+   * malformed part way through contributes no results.
+   */
+  private static ResultsAggregator parse(File reportFile) {
+    ResultsAggregator results = new ResultsAggregator();
+    LOG.debug("Parsing NUnit report {}", reportFile);
+    try (InputStream stream = new BufferedInputStream(new FileInputStream(reportFile))) {
+      XMLStreamReader reader = createInputFactory().createXMLStreamReader(stream);
+      try {
+        reader.nextTag();
+        NUnitFileParser parser = getParserForRootElement(reader.getLocalName());
+        if (parser != null) {
+          parser.parse(reader, results);
+          return results;
+        } else {
+          LOG.error("Report '{}' is not a recognised NUnit format, skipping.", reportFile);
+        }
+      } finally {
+        reader.close();
       }
-    } catch (SAXException | ParserConfigurationException | IOException e) {
+    } catch (XMLStreamException | IOException e) {
       LOG.error("Error while parsing report '{}':", reportFile, e);
     }
+    return new ResultsAggregator();
+  }
+
+  private static XMLInputFactory createInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return factory;
   }
 
-  private static ResultsAggregator parseFiles(Collection<File> reports) {
+  private static ResultsAggregator parseFiles(Collection<File> reports, int threads) {
     ResultsAggregator results = new ResultsAggregator();
-    reports.forEach(report -> parse(report, results));
-    return results;
+    int poolSize = Math.min(threads, reports.size());
+    if (poolSize <= 1) {
+      reports.forEach(report -> results.add(parse(report)));
+      return results;
+    }
+
+    ExecutorService executorService =
+        Executors.newFixedThreadPool(
+            poolSize,
+            new ThreadFactoryBuilder().setNameFormat("delphi-nunit-%d").setDaemon(true).build());
+
+    try {
+      List<Future<ResultsAggregator>> futures = new ArrayList<>();
+      for (File report : reports) {
+        futures.add(executorService.submit(() -> parse(report)));
+      }
+
+      for (Future<ResultsAggregator> future : futures) {
+        results.add(awaitReport(future));
+      }
+      return results;
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  private static ResultsAggregator awaitReport(Future<ResultsAggregator> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while parsing NUnit reports", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IllegalStateException(cause);
+    }
   }
 }
@@ -39,6 +39,20 @@ public final class ResultsAggregator {
     return this;
   }
 
+  /**
+   * Adds the results collected by another aggregator, such as one for a single report.
+   *
+   * @param other the results to add
+   * @return this aggregator
+   */
+  public ResultsAggregator add(ResultsAggregator other) {
+    this.tests += other.tests;
+    this.skipped += other.skipped;
+    this.failures += other.failures;
+    this.durationSeconds += other.durationSeconds;
+    return this;
+  }
+
   public int getFailures() {
     return this.failures;
   }
@@ -19,24 +19,86 @@
 package au.com.integradev.delphi.preprocessor;
 
 import com.google.common.collect.Maps;
-import com.google.common.collect.Multimap;
 import com.google.common.collect.Multimaps;
 import com.google.common.collect.Range;
+import com.google.common.collect.RangeSet;
+import com.google.common.collect.SetMultimap;
+import com.google.common.collect.TreeRangeSet;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import org.sonar.plugins.communitydelphi.api.directive.SwitchDirective.SwitchKind;
 
 public class CompilerSwitchRegistry {
-  private final Multimap<SwitchKind, Range<Integer>> rangesBySwitchKind;
+  private final SetMultimap<SwitchKind, Range<Integer>> rangesBySwitchKind;
+  private volatile Map<SwitchKind, SwitchIntervals> intervalsBySwitchKind;
 
   CompilerSwitchRegistry() {
     rangesBySwitchKind = Multimaps.newSetMultimap(Maps.newEnumMap(SwitchKind.class), HashSet::new);
   }
 
-  void addSwitch(SwitchKind kind, int startIndex, int endIndex) {
+  synchronized void addSwitch(SwitchKind kind, int startIndex, int endIndex) {
     rangesBySwitchKind.put(kind, Range.closed(startIndex, endIndex));
+    intervalsBySwitchKind = null;
   }
 
   public boolean isActiveSwitch(SwitchKind kind, int tokenIndex) {
-    return rangesBySwitchKind.get(kind).stream().anyMatch(range -> range.contains(tokenIndex));
+    SwitchIntervals intervals = getIntervalsBySwitchKind().get(kind);
+    return intervals != null && intervals.contains(tokenIndex);
+  }
+
+  private Map<SwitchKind, SwitchIntervals> getIntervalsBySwitchKind() {
+    Map<SwitchKind, SwitchIntervals> result = intervalsBySwitchKind;
+    if (result == null) {
+      synchronized (this) {
+        result = intervalsBySwitchKind;
+        if (result == null) {
+          result = Maps.newEnumMap(SwitchKind.class);
+          for (SwitchKind kind : rangesBySwitchKind.keySet()) {
+            result.put(kind, SwitchIntervals.from(rangesBySwitchKind.get(kind)));
+          }
+          intervalsBySwitchKind = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Sorted, non-overlapping token index intervals in which a switch is active. Lookups are a binary
+   * search over the interval start indices.
+   */
+  private static final class SwitchIntervals {
+    private final int[] starts;
+    private final int[] ends;
+
+    private SwitchIntervals(int[] starts, int[] ends) {
+      this.starts = starts;
+      this.ends = ends;
+    }
+
+    private static SwitchIntervals from(Set<Range<Integer>> ranges) {
+      RangeSet<Integer> merged = TreeRangeSet.create(ranges);
+      Set<Range<Integer>> mergedRanges = merged.asRanges();
+      int[] starts = new int[mergedRanges.size()];
+      int[] ends = new int[mergedRanges.size()];
+      int i = 0;
+      for (Range<Integer> range : mergedRanges) {
+        starts[i] = range.lowerEndpoint();
+        ends[i] = range.upperEndpoint();
+        ++i;
+      }
+      return new SwitchIntervals(starts, ends);
+    }
+
+    private boolean contains(int tokenIndex) {
+      int index = Arrays.binarySearch(starts, tokenIndex);
+      if (index >= 0) {
+        return true;
+      }
+      int preceding = -index - 2;
+      return preceding >= 0 && ends[preceding] >= tokenIndex;
+    }
   }
 }
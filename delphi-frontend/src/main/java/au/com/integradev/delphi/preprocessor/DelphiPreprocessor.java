@@ -18,8 +18,6 @@
  */
 package au.com.integradev.delphi.preprocessor;
 
-import static java.util.Comparator.comparingInt;
-
 import au.com.integradev.delphi.antlr.DelphiFileStream;
 import au.com.integradev.delphi.antlr.DelphiLexer;
 import au.com.integradev.delphi.antlr.DelphiTokenStream;
@@ -28,6 +26,7 @@ import au.com.integradev.delphi.antlr.ast.token.IncludeToken;
 import au.com.integradev.delphi.compiler.CompilerVersion;
 import au.com.integradev.delphi.compiler.Platform;
 import au.com.integradev.delphi.file.DelphiFileConfig;
+import au.com.integradev.delphi.preprocessor.IncludeFileCache.LexedIncludeFile;
 import au.com.integradev.delphi.preprocessor.directive.BranchDirective;
 import au.com.integradev.delphi.preprocessor.directive.BranchingDirective;
 import au.com.integradev.delphi.preprocessor.directive.CompilerDirectiveImpl;
@@ -38,17 +37,23 @@ import com.google.common.collect.Iterables;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
 import org.antlr.runtime.CharStream;
+import org.antlr.runtime.CommonToken;
 import org.antlr.runtime.Token;
 import org.apache.commons.io.FilenameUtils;
 import org.slf4j.Logger;
@@ -73,22 +78,37 @@ public class DelphiPreprocessor {
   private final CompilerSwitchRegistry switchRegistry;
   private final TextBlockLineEndingModeRegistry textBlockLineEndingModeRegistry;
   private final boolean processingIncludeFile;
+  private final IncludeFileCache includeFileCache;
+  private final Set<Path> includedFiles;
+  private final int tokenIndexStart;
 
   private DelphiTokenStream tokenStream;
-  private Set<Token> tokens;
   private List<Token> rawTokens;
+  private BitSet deletedTokens;
+  private Map<Integer, List<Token>> includedTokens;
   private int tokenIndex;
+  private int indexOffset;
 
   DelphiPreprocessor(
       DelphiLexer lexer,
       DelphiFileConfig config,
       CompilerVersion compilerVersion,
       Platform platform) {
+    this(lexer, config, compilerVersion, platform, new IncludeFileCache());
+  }
+
+  DelphiPreprocessor(
+      DelphiLexer lexer,
+      DelphiFileConfig config,
+      CompilerVersion compilerVersion,
+      Platform platform,
+      IncludeFileCache includeFileCache) {
     this(
         lexer,
         config,
         compilerVersion,
         platform,
+        includeFileCache,
         caseInsensitiveSet(config.getDefinitions()),
         new EnumMap<>(SwitchKind.class),
         new CompilerSwitchRegistry(),
@@ -105,6 +125,7 @@ public class DelphiPreprocessor {
       DelphiFileConfig config,
       CompilerVersion compilerVersion,
       Platform platform,
+      IncludeFileCache includeFileCache,
       Set<String> definitions,
       Map<SwitchKind, Integer> currentSwitches,
       CompilerSwitchRegistry switchRegistry,
@@ -115,6 +136,8 @@ public class DelphiPreprocessor {
     this.config = config;
     this.compilerVersion = compilerVersion;
     this.platform = platform;
+    this.includeFileCache = includeFileCache;
+    this.includedFiles = new LinkedHashSet<>();
     this.switchRegistry = switchRegistry;
     this.textBlockLineEndingModeRegistry = textBlockLineEndingModeRegistry;
     this.definitions = definitions;
@@ -122,6 +145,7 @@ public class DelphiPreprocessor {
     this.parentDirective = new ArrayDeque<>();
     this.currentSwitches = currentSwitches;
     this.processingIncludeFile = processingIncludeFile;
+    this.tokenIndexStart = tokenIndexStart;
     this.tokenIndex = tokenIndexStart;
   }
 
@@ -137,23 +161,47 @@ public class DelphiPreprocessor {
     tokenStream = new DelphiTokenStream(lexer);
 
     tokenStream.fill();
-    tokens = extractTokens(tokenStream);
-    rawTokens = List.copyOf(tokens);
-    tokens.forEach(this::processToken);
+    rawTokens = List.copyOf(tokenStream.getTokens());
+    deletedTokens = new BitSet(rawTokens.size());
+    includedTokens = new HashMap<>();
+    rawTokens.forEach(this::processToken);
     directives.stream()
         .map(CompilerDirectiveImpl.class::cast)
         .forEach(directive -> directive.execute(this));
-    tokenStream.setTokens(new ArrayList<>(tokens));
+    List<Token> tokens = spliceTokens();
+    tokenStream.setTokens(tokens);
     tokenStream.reset();
 
     if (!processingIncludeFile) {
-      registerCurrentCompilerSwitches();
+      registerCurrentCompilerSwitches(tokens);
     }
   }
 
-  private static Set<Token> extractTokens(DelphiTokenStream tokenStream) {
-    Set<Token> result = new TreeSet<>(comparingInt(Token::getTokenIndex));
-    result.addAll(tokenStream.getTokens());
+  /**
+   * Builds the final token list by dropping deleted tokens and splicing in the included tokens,
+   * then renumbers the raw tokens to account for the included tokens.
+   *
+   * <p>Directives are executed in the order that they appear in the file, so the tokens of an
+   * include only ever shift the tokens that follow it. Until this point, the index of any token
+   * that hasn't been renumbered yet can be found by adding {@link #indexOffset}.
+   *
+   * @return the preprocessed tokens
+   */
+  private List<Token> spliceTokens() {
+    List<Token> result = new ArrayList<>(rawTokens.size());
+    int offset = 0;
+    for (int i = 0; i < rawTokens.size(); ++i) {
+      Token token = rawTokens.get(i);
+      token.setTokenIndex(token.getTokenIndex() + offset);
+
+      List<Token> included = includedTokens.get(i);
+      if (included != null) {
+        result.addAll(included);
+        offset += getTokenOffset(token.getTokenIndex(), included);
+      } else if (!deletedTokens.get(i)) {
+        result.add(token);
+      }
+    }
     return result;
   }
 
@@ -196,7 +244,15 @@ public class DelphiPreprocessor {
   }
 
   public void deleteToken(Token token) {
-    tokens.remove(token);
+    deletedTokens.set(getTokenPosition(token));
+  }
+
+  private int getTokenPosition(Token token) {
+    return token.getTokenIndex() - tokenIndexStart;
+  }
+
+  private int getCurrentTokenIndex(int tokenIndex) {
+    return tokenIndex + indexOffset;
   }
 
   public void resolveInclude(Token insertionToken, String includeFilePath) {
@@ -215,30 +271,30 @@ public class DelphiPreprocessor {
     Path includePath = includeFile.getParent();
 
     DelphiToken location = new DelphiTokenImpl(insertionToken);
-    List<Token> includeTokens = processIncludeFile(includeFileName, includePath, location);
+    int insertionIndex = getCurrentTokenIndex(insertionToken.getTokenIndex());
+    List<Token> includeTokens =
+        processIncludeFile(includeFileName, includePath, location, insertionIndex);
 
-    offsetTokenIndices(location.getIndex(), getTokenOffset(includeTokens));
-    deleteToken(insertionToken);
-    tokens.addAll(includeTokens);
+    includedTokens.put(getTokenPosition(insertionToken), includeTokens);
+    indexOffset += getTokenOffset(insertionIndex, includeTokens);
   }
 
-  private static int getTokenOffset(List<Token> tokens) {
-    if (!tokens.isEmpty()) {
-      return Iterables.getLast(tokens).getTokenIndex() - tokens.get(0).getTokenIndex();
+  private static int getTokenOffset(int insertionIndex, List<Token> includeTokens) {
+    if (!includeTokens.isEmpty()) {
+      return Iterables.getLast(includeTokens).getTokenIndex() - insertionIndex;
     }
     return 0;
   }
 
-  private void offsetTokenIndices(int startIndex, int offset) {
-    tokens.stream()
-        .filter(token -> token.getTokenIndex() > startIndex)
-        .forEach(token -> token.setTokenIndex(token.getTokenIndex() + offset));
-  }
-
-  private List<Token> processIncludeFile(String filename, Path includePath, DelphiToken location) {
+  private List<Token> processIncludeFile(
+      String filename, Path includePath, DelphiToken location, int insertionIndex) {
     try {
       Path includeFile = config.getSearchPath().search(filename, includePath);
 
+      // An unresolved include is still recorded, since it could be resolved on a later analysis
+      includedFiles.add(
+          (includeFile == null ? includePath.resolve(filename) : includeFile).toAbsolutePath());
+
       if (includeFile != null) {
         Path lexerFile = Path.of(lexer.getSourceName());
         if (Files.isSameFile(includeFile, lexerFile)) {
@@ -247,7 +303,7 @@ public class DelphiPreprocessor {
               location);
         }
 
-        List<Token> result = preprocessIncludeFile(location, includeFile);
+        List<Token> result = preprocessIncludeFile(location, insertionIndex, includeFile);
         result.remove(result.size() - 1); // Remove EOF token
         return result;
       }
@@ -259,9 +315,9 @@ public class DelphiPreprocessor {
     return Collections.emptyList();
   }
 
-  private List<Token> preprocessIncludeFile(DelphiToken location, Path path) throws IOException {
-    var fileStream = new DelphiFileStream(path.toAbsolutePath().toString(), config.getEncoding());
-    DelphiLexer includeLexer = new DelphiIncludeLexer(fileStream, location);
+  private List<Token> preprocessIncludeFile(DelphiToken location, int insertionIndex, Path path)
+      throws IOException {
+    DelphiLexer includeLexer = createIncludeLexer(location, path.toAbsolutePath());
 
     DelphiPreprocessor preprocessor =
         new DelphiPreprocessor(
@@ -269,18 +325,44 @@ public class DelphiPreprocessor {
             config,
             compilerVersion,
             platform,
+            includeFileCache,
             definitions,
             currentSwitches,
             switchRegistry,
             textBlockLineEndingModeRegistry,
-            location.getIndex(),
+            insertionIndex,
             true);
 
     preprocessor.process();
+    includedFiles.addAll(preprocessor.getIncludedFiles());
 
     return preprocessor.getTokenStream().getTokens();
   }
 
+  private DelphiLexer createIncludeLexer(DelphiToken location, Path path) throws IOException {
+    String encoding = config.getEncoding();
+    LexedIncludeFile includeFile = includeFileCache.get(path, encoding);
+
+    if (includeFile == null) {
+      FileTime lastModified = Files.getLastModifiedTime(path);
+      var fileStream = new DelphiFileStream(path.toString(), encoding);
+      List<Token> tokens = lex(new DelphiIncludeLexer(fileStream, location));
+      includeFile = includeFileCache.put(path, encoding, lastModified, fileStream, tokens);
+    }
+
+    return new CachedIncludeLexer(includeFile, location);
+  }
+
+  private static List<Token> lex(DelphiLexer lexer) {
+    List<Token> result = new ArrayList<>();
+    Token token;
+    do {
+      token = lexer.nextToken();
+      result.add(token);
+    } while (token.getType() != Token.EOF);
+    return result;
+  }
+
   private void addBranchingDirective(BranchingDirective directive) {
     if (!parentDirective.isEmpty()) {
       parentDirective.peek().addDirective(directive);
@@ -315,20 +397,22 @@ public class DelphiPreprocessor {
 
   public void handleSwitch(SwitchKind kind, int tokenIndex, boolean value) {
     if (value) {
-      currentSwitches.put(kind, tokenIndex);
+      currentSwitches.put(kind, getCurrentTokenIndex(tokenIndex));
       return;
     }
 
     Integer startIndex = currentSwitches.remove(kind);
     if (startIndex != null) {
-      switchRegistry.addSwitch(kind, startIndex, tokenIndex);
+      switchRegistry.addSwitch(kind, startIndex, getCurrentTokenIndex(tokenIndex));
     }
   }
 
-  private void registerCurrentCompilerSwitches() {
+  private void registerCurrentCompilerSwitches(List<Token> tokens) {
     if (!tokens.isEmpty()) {
       int lastTokenIndex = Iterables.getLast(tokens).getTokenIndex();
-      currentSwitches.forEach((type, index) -> handleSwitch(type, lastTokenIndex, false));
+      currentSwitches.forEach(
+          (kind, startIndex) -> switchRegistry.addSwitch(kind, startIndex, lastTokenIndex));
+      currentSwitches.clear();
     }
   }
 
@@ -348,7 +432,8 @@ public class DelphiPreprocessor {
         lineEndingMode = nativeLineEnding();
         break;
     }
-    textBlockLineEndingModeRegistry.registerLineEndingMode(lineEndingMode, tokenIndex);
+    textBlockLineEndingModeRegistry.registerLineEndingMode(
+        lineEndingMode, getCurrentTokenIndex(tokenIndex));
   }
 
   private TextBlockLineEndingMode nativeLineEnding() {
@@ -375,6 +460,15 @@ public class DelphiPreprocessor {
     return config.getTypeFactory();
   }
 
+  /**
+   * Returns the files that were included by include directives, either directly or transitively.
+   *
+   * @return the absolute paths of the included files
+   */
+  public Set<Path> getIncludedFiles() {
+    return Collections.unmodifiableSet(includedFiles);
+  }
+
   public List<DelphiToken> getRawTokens() {
     return rawTokens.stream()
         .filter(token -> token.getType() != Token.EOF)
@@ -421,4 +515,34 @@ public class DelphiPreprocessor {
           cause);
     }
   }
+
+  /** Replays the cached tokens of an include file, bound to a new insertion token. */
+  private static class CachedIncludeLexer extends DelphiLexer {
+    private final Iterator<Token> tokens;
+    private final DelphiToken insertionToken;
+    private Token eof;
+
+    public CachedIncludeLexer(LexedIncludeFile includeFile, DelphiToken insertionToken) {
+      super(includeFile.getInput());
+      this.tokens = includeFile.getTokens().iterator();
+      this.insertionToken = insertionToken;
+    }
+
+    @Override
+    public Token nextToken() {
+      if (eof != null) {
+        return new CommonToken(eof);
+      }
+
+      Token token = tokens.next();
+      if (token.getType() == Token.EOF) {
+        eof = token;
+      }
+
+      if (token instanceof IncludeToken) {
+        return new IncludeToken((IncludeToken) token, insertionToken);
+      }
+      return new CommonToken(token);
+    }
+  }
 }
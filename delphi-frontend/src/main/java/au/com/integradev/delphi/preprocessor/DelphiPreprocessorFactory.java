@@ -26,6 +26,7 @@ import au.com.integradev.delphi.file.DelphiFileConfig;
 public final class DelphiPreprocessorFactory {
   private final CompilerVersion compilerVersion;
   private final Platform platform;
+  private final IncludeFileCache includeFileCache = new IncludeFileCache();
 
   public DelphiPreprocessorFactory(CompilerVersion compilerVersion, Platform platform) {
     this.compilerVersion = compilerVersion;
@@ -33,6 +34,6 @@ public final class DelphiPreprocessorFactory {
   }
 
   public DelphiPreprocessor createPreprocessor(DelphiLexer lexer, DelphiFileConfig config) {
-    return new DelphiPreprocessor(lexer, config, compilerVersion, platform);
+    return new DelphiPreprocessor(lexer, config, compilerVersion, platform, includeFileCache);
   }
 }
@@ -0,0 +1,120 @@
+/*
+ * Sonar Delphi Plugin
+ * Copyright (C) 2026 Integrated Application Development
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02
+ */
+package au.com.integradev.delphi.preprocessor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+import org.antlr.runtime.CharStream;
+import org.antlr.runtime.Token;
+
+/**
+ * Caches the lexed tokens of include files, so that an include file shared by many units is only
+ * read and lexed once.
+ *
+ * <p>The cached tokens are never handed out directly. Each inclusion replays copies of them, so
+ * directives within the include file are still evaluated separately for every inclusion.
+ *
+ * <p>The cache is safe to share between threads. Cached entries are immutable, and are replaced as
+ * a whole when an include file has been modified.
+ */
+final class IncludeFileCache {
+  private final Map<Key, LexedIncludeFile> files = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the lexed include file, if it is cached and has not been modified since.
+   *
+   * @param path absolute path of the include file
+   * @param encoding encoding the include file was read with
+   * @return lexed include file, or null if it needs to be lexed again
+   * @throws IOException if the last modified time of the file can't be read
+   */
+  @Nullable
+  LexedIncludeFile get(Path path, @Nullable String encoding) throws IOException {
+    LexedIncludeFile file = files.get(new Key(path, encoding));
+    if (file != null && file.lastModified.equals(Files.getLastModifiedTime(path))) {
+      return file;
+    }
+    return null;
+  }
+
+  LexedIncludeFile put(
+      Path path,
+      @Nullable String encoding,
+      FileTime lastModified,
+      CharStream input,
+      List<Token> tokens) {
+    LexedIncludeFile file = new LexedIncludeFile(lastModified, input, List.copyOf(tokens));
+    files.put(new Key(path, encoding), file);
+    return file;
+  }
+
+  static final class LexedIncludeFile {
+    private final FileTime lastModified;
+    private final CharStream input;
+    private final List<Token> tokens;
+
+    private LexedIncludeFile(FileTime lastModified, CharStream input, List<Token> tokens) {
+      this.lastModified = lastModified;
+      this.input = input;
+      this.tokens = tokens;
+    }
+
+    CharStream getInput() {
+      return input;
+    }
+
+    List<Token> getTokens() {
+      return tokens;
+    }
+  }
+
+  private static final class Key {
+    private final Path path;
+    private final String encoding;
+
+    private Key(Path path, @Nullable String encoding) {
+      this.path = path;
+      this.encoding = encoding;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      Key key = (Key) o;
+      return path.equals(key.path) && Objects.equals(encoding, key.encoding);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(path, encoding);
+    }
+  }
+}
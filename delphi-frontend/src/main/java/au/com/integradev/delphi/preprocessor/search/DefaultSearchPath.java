@@ -18,19 +18,18 @@
  */
 package au.com.integradev.delphi.preprocessor.search;
 
-import static java.util.Comparator.comparingInt;
-
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.SetMultimap;
 import java.io.IOException;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,28 +37,29 @@ import org.slf4j.LoggerFactory;
 public class DefaultSearchPath implements SearchPath {
   private static final Logger LOG = LoggerFactory.getLogger(DefaultSearchPath.class);
   private final Set<Path> rootDirectories;
-  private final SetMultimap<Path, Path> filesByDirectory;
-  private final Set<Path> indexedPaths;
+
+  /**
+   * For each indexed directory, maps the lower-cased names of the files within it (including
+   * subdirectories) to the file with the fewest path elements.
+   */
+  private final Map<Path, Map<String, Path>> filesByDirectory;
 
   DefaultSearchPath(List<Path> searchDirectories) {
     this.rootDirectories = Collections.unmodifiableSet(new LinkedHashSet<>(searchDirectories));
-    this.filesByDirectory = HashMultimap.create();
-    this.indexedPaths = new HashSet<>();
+    this.filesByDirectory = new ConcurrentHashMap<>();
 
-    rootDirectories.forEach(this::indexIncludePath);
+    rootDirectories.parallelStream().forEach(this::indexIncludePath);
   }
 
   @Override
   @Nullable
   public Path search(String filename, Path includePath) {
-    if (!indexedPaths.contains(includePath)) {
-      indexIncludePath(includePath);
-    }
+    String key = filename.toLowerCase(Locale.ROOT);
 
-    Path path = findFileForPath(filename, includePath);
+    Path path = findFileForPath(key, includePath);
     if (path == null) {
       for (Path root : rootDirectories) {
-        path = findFileForPath(filename, root);
+        path = findFileForPath(key, root);
         if (path != null) {
           break;
         }
@@ -74,13 +74,15 @@ public class DefaultSearchPath implements SearchPath {
     return rootDirectories;
   }
 
-  private Set<Path> indexIncludePath(Path path) {
+  private Map<String, Path> indexIncludePath(Path path) {
+    Map<String, Path> files = new HashMap<>();
+
     try (DirectoryStream<Path> stream = Files.newDirectoryStream(path)) {
       for (Path child : stream) {
         if (Files.isDirectory(child)) {
-          filesByDirectory.putAll(path, indexIncludePath(child));
+          indexIncludePath(child).values().forEach(file -> addFile(files, file));
         } else {
-          filesByDirectory.put(path, child);
+          addFile(files, child);
         }
       }
     } catch (IOException e) {
@@ -88,14 +90,23 @@ public class DefaultSearchPath implements SearchPath {
       LOG.debug("Error while indexing search path:", e);
     }
 
-    indexedPaths.add(path);
-    return filesByDirectory.get(path);
+    filesByDirectory.put(path, files);
+    return files;
   }
 
-  private Path findFileForPath(String filename, Path path) {
-    return filesByDirectory.get(path).stream()
-        .filter(file -> filename.equalsIgnoreCase(file.getFileName().toString()))
-        .min(comparingInt(Path::getNameCount))
-        .orElse(null);
+  private static void addFile(Map<String, Path> files, Path file) {
+    files.merge(
+        file.getFileName().toString().toLowerCase(Locale.ROOT),
+        file,
+        (existing, added) -> added.getNameCount() < existing.getNameCount() ? added : existing);
+  }
+
+  @Nullable
+  private Path findFileForPath(String key, Path path) {
+    Map<String, Path> files = filesByDirectory.get(path);
+    if (files == null) {
+      files = indexIncludePath(path);
+    }
+    return files.get(key);
   }
 }
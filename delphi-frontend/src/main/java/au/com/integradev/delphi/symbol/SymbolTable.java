@@ -18,12 +18,29 @@
  */
 package au.com.integradev.delphi.symbol;
 
+import au.com.integradev.delphi.file.DelphiFile;
+import java.lang.ref.SoftReference;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+import org.sonar.plugins.communitydelphi.api.symbol.declaration.UnitImportNameDeclaration;
 import org.sonar.plugins.communitydelphi.api.symbol.declaration.UnitNameDeclaration;
 
 public class SymbolTable {
   private final Map<String, UnitNameDeclaration> unitsByFilePath = new HashMap<>();
+  private final Map<String, Set<Path>> includedFilesByPath = new HashMap<>();
+  private final Map<String, SoftReference<DelphiFile>> sourceFilesByPath =
+      new ConcurrentHashMap<>();
 
   public void addUnit(String path, UnitNameDeclaration declaration) {
     unitsByFilePath.put(path, declaration);
@@ -33,6 +50,100 @@ public class SymbolTable {
     return unitsByFilePath.get(path);
   }
 
+  /**
+   * Returns the absolute paths of every unit in the symbol table, including the units that were
+   * found on the search path or in the standard library.
+   *
+   * @return The absolute paths of all units
+   */
+  public Set<String> getUnitPaths() {
+    return Collections.unmodifiableSet(unitsByFilePath.keySet());
+  }
+
+  public void addIncludedFiles(String path, Collection<Path> includedFiles) {
+    if (!includedFiles.isEmpty()) {
+      includedFilesByPath.computeIfAbsent(path, k -> new HashSet<>()).addAll(includedFiles);
+    }
+  }
+
+  /**
+   * Returns the files that a unit included while it was being resolved.
+   *
+   * @param path The absolute path of the unit
+   * @return The absolute paths of the included files
+   */
+  public Set<Path> getIncludedFiles(String path) {
+    return Collections.unmodifiableSet(includedFilesByPath.getOrDefault(path, Set.of()));
+  }
+
+  /**
+   * Finds the units that depend on any of the given units, either directly or transitively.
+   *
+   * <p>Imports are followed along with interface and implementation dependencies, since a change to
+   * an imported unit can affect name resolution even if nothing was used from it before. The given
+   * units are not included in the result, unless they depend on one another.
+   *
+   * @param paths The absolute paths of the units
+   * @return The absolute paths of all units that depend on the given units
+   */
+  public Set<String> findDependents(Collection<String> paths) {
+    Map<UnitNameDeclaration, Set<String>> dependentsByUnit = new IdentityHashMap<>();
+    unitsByFilePath.forEach(
+        (path, unit) -> {
+          Set<UnitNameDeclaration> dependencies = new HashSet<>();
+          unit.getScope().getImportDeclarations().stream()
+              .map(UnitImportNameDeclaration::getOriginalDeclaration)
+              .filter(Objects::nonNull)
+              .forEach(dependencies::add);
+          dependencies.addAll(unit.getInterfaceDependencies());
+          dependencies.addAll(unit.getImplementationDependencies());
+          for (UnitNameDeclaration dependency : dependencies) {
+            dependentsByUnit.computeIfAbsent(dependency, k -> new HashSet<>()).add(path);
+          }
+        });
+
+    Set<String> result = new HashSet<>();
+    Deque<String> queue = new ArrayDeque<>(paths);
+    while (!queue.isEmpty()) {
+      UnitNameDeclaration unit = unitsByFilePath.get(queue.pop());
+      if (unit == null) {
+        continue;
+      }
+      for (String dependent : dependentsByUnit.getOrDefault(unit, Set.of())) {
+        if (result.add(dependent)) {
+          queue.push(dependent);
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Retains a source file that was fully parsed during symbol table construction, so that it can
+   * be handed off to analysis instead of being parsed again.
+   *
+   * <p>The file is softly referenced, so the garbage collector is free to reclaim it under memory
+   * pressure. In that case, the file will simply need to be parsed again.
+   *
+   * @param path The absolute path of the source file
+   * @param file The parsed file
+   */
+  public void retainSourceFile(String path, DelphiFile file) {
+    sourceFilesByPath.put(path, new SoftReference<>(file));
+  }
+
+  /**
+   * Removes and returns a source file that was retained during symbol table construction.
+   *
+   * @param path The absolute path of the source file
+   * @return The parsed file, or null if it was not retained or has since been reclaimed
+   */
+  @Nullable
+  public DelphiFile takeSourceFile(String path) {
+    SoftReference<DelphiFile> reference = sourceFilesByPath.remove(path);
+    return reference == null ? null : reference.get();
+  }
+
   public static SymbolTableBuilder builder() {
     return new SymbolTableBuilder();
   }
@@ -25,22 +25,34 @@ import au.com.integradev.delphi.antlr.ast.visitors.DependencyAnalysisVisitor;
 import au.com.integradev.delphi.antlr.ast.visitors.SymbolTableVisitor;
 import au.com.integradev.delphi.file.DelphiFile;
 import au.com.integradev.delphi.file.DelphiFile.DelphiFileConstructionException;
+import au.com.integradev.delphi.file.DelphiFile.DelphiInputFile;
 import au.com.integradev.delphi.file.DelphiFileConfig;
 import au.com.integradev.delphi.preprocessor.DelphiPreprocessorFactory;
 import au.com.integradev.delphi.preprocessor.search.SearchPath;
 import au.com.integradev.delphi.symbol.declaration.UnitImportNameDeclarationImpl;
 import au.com.integradev.delphi.symbol.scope.FileScopeImpl;
+import au.com.integradev.delphi.type.factory.TypeFactoryImpl;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -50,8 +62,10 @@ import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.sonar.plugins.communitydelphi.api.ast.FileHeaderNode;
 import org.sonar.plugins.communitydelphi.api.ast.QualifiedNameDeclarationNode;
 import org.sonar.plugins.communitydelphi.api.ast.UnitImportNode;
+import org.sonar.plugins.communitydelphi.api.symbol.NameOccurrence;
 import org.sonar.plugins.communitydelphi.api.symbol.declaration.NameDeclaration;
 import org.sonar.plugins.communitydelphi.api.symbol.declaration.RoutineDirective;
 import org.sonar.plugins.communitydelphi.api.symbol.declaration.TypeNameDeclaration;
@@ -76,15 +90,19 @@ public class SymbolTableBuilder {
   private DelphiPreprocessorFactory preprocessorFactory;
   private TypeFactory typeFactory;
   private Path standardLibraryPath;
+  private StandardLibrary standardLibrary;
   private SearchPath searchPath = SearchPath.create(Collections.emptyList());
   private List<Path> sourceFiles = Collections.emptyList();
   private List<Path> referencedFiles = Collections.emptyList();
   private Set<String> conditionalDefines = Collections.emptySet();
   private Set<String> unitScopeNames = Collections.emptySet();
   private Map<String, String> unitAliases = Collections.emptyMap();
+  private boolean retainSourceFiles;
+  private int threads = 1;
 
   private SystemScope systemScope;
   private SysInitScope sysInitScope;
+  private ParsePrefetcher prefetcher;
   private int nestingLevel;
 
   SymbolTableBuilder() {
@@ -142,6 +160,52 @@ public class SymbolTableBuilder {
     return this;
   }
 
+  /**
+   * Reuse a standard library indexed by {@link #buildStandardLibrary()}, instead of indexing the
+   * standard library again. This also sets the standard library path and the type factory.
+   *
+   * <p>If a referenced file or search path unit has the same name as one of the standard library
+   * units, the standard library is indexed from scratch so that it can resolve against that unit.
+   *
+   * @param standardLibrary the standard library to reuse
+   * @return this builder
+   */
+  public SymbolTableBuilder standardLibrary(StandardLibrary standardLibrary) {
+    this.standardLibrary = standardLibrary;
+    this.standardLibraryPath = standardLibrary.path;
+    this.typeFactory = standardLibrary.typeFactory;
+    return this;
+  }
+
+  /**
+   * Retain the fully-parsed source files in the symbol table, so they can be handed off to analysis
+   * instead of being parsed a second time.
+   *
+   * @param retainSourceFiles whether source files should be retained
+   * @return this builder
+   * @see SymbolTable#takeSourceFile(String)
+   */
+  public SymbolTableBuilder retainSourceFiles(boolean retainSourceFiles) {
+    this.retainSourceFiles = retainSourceFiles;
+    return this;
+  }
+
+  /**
+   * Number of threads used to construct the symbol table.
+   *
+   * <p>Symbol resolution always happens on the calling thread, in the same order as a
+   * single-threaded build, so the resulting symbol table is identical regardless of the thread
+   * count. Additional threads are used to lex, preprocess and parse units ahead of time, following
+   * the unit dependency graph.
+   *
+   * @param threads number of threads, where values below 2 mean a single-threaded build
+   * @return this builder
+   */
+  public SymbolTableBuilder threads(int threads) {
+    this.threads = threads;
+    return this;
+  }
+
   private void processStandardLibrarySearchPaths() {
     if (standardLibraryPath == null) {
       return;
@@ -169,6 +233,24 @@ public class SymbolTableBuilder {
     }
   }
 
+  private boolean canReuseStandardLibrary() {
+    return standardLibrary != null
+        && standardLibrary.unitsByName.keySet().stream().noneMatch(allUnitsByName::containsKey);
+  }
+
+  private void reuseStandardLibrary() {
+    standardLibrary.unitsByName.forEach(
+        (name, unit) -> {
+          allUnitsByName.put(name, unit);
+          unitPaths.add(unit.unitFile);
+          if (unit.unitDeclaration != null) {
+            symbolTable.addUnit(unit.unitFile.toAbsolutePath().toString(), unit.unitDeclaration);
+          }
+        });
+    systemScope = standardLibrary.systemScope;
+    sysInitScope = standardLibrary.sysInitScope;
+  }
+
   private void processSearchPath(Path path) {
     try (Stream<Path> fileStream = Files.list(path)) {
       fileStream
@@ -230,22 +312,25 @@ public class SymbolTableBuilder {
   @Nullable
   private UnitData searchForImport(
       UnitNameDeclaration unit, String importName, boolean isQualified) {
-    UnitData data = findImportByName(unit, importName);
+    return searchForImport(unit.getImage(), unit.getNamespace(), importName, isQualified);
+  }
+
+  @Nullable
+  private UnitData searchForImport(
+      String unitName, String namespace, String importName, boolean isQualified) {
+    UnitData data = findImportByName(unitName, importName);
 
     if (data == null) {
       for (String unitScopeName : unitScopeNames) {
-        data = findImportByName(unit, unitScopeName + "." + importName);
+        data = findImportByName(unitName, unitScopeName + "." + importName);
         if (data != null) {
           break;
         }
       }
     }
 
-    if (data == null) {
-      String namespace = unit.getNamespace();
-      if (!isQualified && !namespace.isEmpty()) {
-        data = findImportByName(unit, namespace + "." + importName);
-      }
+    if (data == null && !isQualified && !namespace.isEmpty()) {
+      data = findImportByName(unitName, namespace + "." + importName);
     }
 
     return data;
@@ -253,7 +338,12 @@ public class SymbolTableBuilder {
 
   @Nullable
   private UnitData findImportByName(UnitNameDeclaration unit, String importName) {
-    if (unit.getImage().equalsIgnoreCase(importName)) {
+    return findImportByName(unit.getImage(), importName);
+  }
+
+  @Nullable
+  private UnitData findImportByName(String unitName, String importName) {
+    if (unitName.equalsIgnoreCase(importName)) {
       return null;
     }
     return allUnitsByName.get(importName.toLowerCase());
@@ -284,8 +374,18 @@ public class SymbolTableBuilder {
       }
 
       boolean shouldSkipImplementation = (resolutionLevel != ResolutionLevel.COMPLETE);
-      DelphiFileConfig fileConfig = createFileConfig(unit, shouldSkipImplementation);
-      DelphiFile delphiFile = DelphiFile.from(unit.unitFile.toFile(), fileConfig);
+
+      if (unit.resolved == ResolutionLevel.NONE && !shouldSkipImplementation) {
+        DelphiFile interfaceFile = takePrefetchedInterface(unit);
+        if (interfaceFile != null) {
+          recordIncludedFiles(unit, interfaceFile);
+          runSymbolTableVisitor(unit, interfaceFile, ResolutionLevel.INTERFACE);
+          runDependencyAnalysisVisitor(unit, interfaceFile, ResolutionLevel.INTERFACE);
+        }
+      }
+
+      DelphiFile delphiFile = parse(unit, shouldSkipImplementation);
+      recordIncludedFiles(unit, delphiFile);
 
       if (unit.resolved == ResolutionLevel.NONE) {
         runSymbolTableVisitor(unit, delphiFile, ResolutionLevel.INTERFACE);
@@ -296,6 +396,9 @@ public class SymbolTableBuilder {
         runSymbolTableVisitor(unit, delphiFile, ResolutionLevel.COMPLETE);
         processImportsWithInlineRoutines(unit);
         runDependencyAnalysisVisitor(unit, delphiFile, ResolutionLevel.COMPLETE);
+        if (shouldRetain(unit, shouldSkipImplementation)) {
+          symbolTable.retainSourceFile(unit.unitFile.toAbsolutePath().toString(), delphiFile);
+        }
       }
     } catch (DelphiFileConstructionException e) {
       String error = String.format("Error while processing %s", unit.unitFile.toAbsolutePath());
@@ -305,6 +408,66 @@ public class SymbolTableBuilder {
     }
   }
 
+  private DelphiFile parse(UnitData unit, boolean shouldSkipImplementation) {
+    if (prefetcher == null) {
+      return parseFile(unit, shouldSkipImplementation);
+    }
+    DelphiFile delphiFile = prefetcher.take(unit, shouldSkipImplementation);
+    prefetchImports(delphiFile);
+    return delphiFile;
+  }
+
+  /**
+   * Takes an interface parse of the unit that was prefetched and has already finished, so that it
+   * can be resolved at the interface level instead of being thrown away.
+   */
+  @Nullable
+  private DelphiFile takePrefetchedInterface(UnitData unit) {
+    if (prefetcher == null) {
+      return null;
+    }
+    DelphiFile delphiFile = prefetcher.takeIfDone(unit);
+    if (delphiFile != null) {
+      prefetchImports(delphiFile);
+    }
+    return delphiFile;
+  }
+
+  private void prefetchImports(DelphiFile delphiFile) {
+    FileHeaderNode header = delphiFile.getAst().getFileHeader();
+    String unitName = header == null ? "" : header.getName();
+    String namespace = header == null ? "" : header.getNamespace();
+
+    for (UnitImportNode node : delphiFile.getAst().findDescendantsOfType(UnitImportNode.class)) {
+      QualifiedNameDeclarationNode nameNode = node.getNameNode();
+      String importName = nameNode.fullyQualifiedName();
+      importName = unitAliases.getOrDefault(importName, importName);
+
+      UnitData data = searchForImport(unitName, namespace, importName, nameNode.isQualified());
+      if (data != null && data.resolved == ResolutionLevel.NONE) {
+        prefetcher.prefetch(data, true);
+      }
+    }
+  }
+
+  private DelphiFile parseFile(UnitData unit, boolean shouldSkipImplementation) {
+    DelphiFileConfig fileConfig = createFileConfig(unit, shouldSkipImplementation);
+    File file = unit.unitFile.toFile();
+    if (shouldRetain(unit, shouldSkipImplementation)) {
+      return DelphiInputFile.unbound(file, fileConfig);
+    }
+    return DelphiFile.from(file, fileConfig);
+  }
+
+  private boolean shouldRetain(UnitData unit, boolean shouldSkipImplementation) {
+    return retainSourceFiles && unit.isSourceFile && !shouldSkipImplementation;
+  }
+
+  private void recordIncludedFiles(UnitData unit, DelphiFile delphiFile) {
+    String filePath = unit.unitFile.toAbsolutePath().toString();
+    symbolTable.addIncludedFiles(filePath, delphiFile.getIncludedFiles());
+  }
+
   private void runSymbolTableVisitor(
       UnitData unit, DelphiFile delphiFile, ResolutionLevel resolutionLevel) {
     var data =
@@ -462,41 +625,285 @@ public class SymbolTableBuilder {
 
     referencedFiles.forEach(file -> this.createUnitData(file, false));
     searchPath.getRootDirectories().forEach(this::processSearchPath);
-    processStandardLibrarySearchPaths();
+    if (canReuseStandardLibrary()) {
+      reuseStandardLibrary();
+    } else {
+      processStandardLibrarySearchPaths();
+    }
     sourceFiles.forEach(file -> this.createUnitData(file, true));
 
+    List<UnitData> units = new ArrayList<>(sourceFileUnits);
+
+    if (threads > 1) {
+      LOG.info("Constructing symbol table with {} threads", threads);
+      prefetcher = new ParsePrefetcher(threads);
+    }
+
+    try {
+      prefetchSourceFiles(units, 0);
+      if (systemScope == null) {
+        indexSystemUnit();
+        indexSysInitUnit();
+      }
+      indexSourceFiles(units);
+    } finally {
+      if (prefetcher != null) {
+        prefetcher.shutdown();
+        prefetcher = null;
+      }
+    }
+
+    return symbolTable;
+  }
+
+  /**
+   * Indexes every unit in the standard library, so that the result can be shared by later builds
+   * with the same type factory and configuration.
+   *
+   * <p>Units with inline routines are fully resolved up front, since importing them would otherwise
+   * resolve them further. Name occurrences that later builds record in the standard library are
+   * discarded by {@link StandardLibrary#reset()}.
+   *
+   * @return the indexed standard library
+   * @see #standardLibrary(StandardLibrary)
+   */
+  public StandardLibrary buildStandardLibrary() {
+    if (preprocessorFactory == null) {
+      throw new SymbolTableConstructionException("preprocessorFactory was not supplied.");
+    }
+
+    if (typeFactory == null) {
+      throw new SymbolTableConstructionException("typeFactory was not supplied.");
+    }
+
+    if (standardLibraryPath == null) {
+      throw new SymbolTableConstructionException("standardLibraryPath was not supplied.");
+    }
+
+    processStandardLibrarySearchPaths();
+    indexSystemUnit();
+    indexSysInitUnit();
+
+    List<UnitData> units = new ArrayList<>(allUnitsByName.values());
+    units.forEach(unit -> process(unit, ResolutionLevel.INTERFACE));
+    units.stream()
+        .filter(unit -> unit.unitDeclaration != null)
+        .filter(unit -> unit.resolved == ResolutionLevel.INTERFACE)
+        .filter(unit -> hasInlineRoutines(unit.unitDeclaration))
+        .forEach(unit -> process(unit, ResolutionLevel.COMPLETE));
+
+    Set<DelphiScope> scopes = Collections.newSetFromMap(new IdentityHashMap<>());
+    units.stream()
+        .filter(unit -> unit.unitDeclaration != null)
+        .forEach(unit -> collectScopes(unit.unitDeclaration.getFileScope(), scopes));
+
+    return new StandardLibrary(this, scopes);
+  }
+
+  private static void collectScopes(DelphiScope scope, Set<DelphiScope> scopes) {
+    if (!scopes.add(scope)) {
+      return;
+    }
+
+    scope.getTypeDeclarations().stream()
+        .map(TypeNameDeclaration::getType)
+        .filter(Predicate.not(Type::isClassReference))
+        .filter(Predicate.not(Type::isAlias))
+        .filter(ScopedType.class::isInstance)
+        .map(ScopedType.class::cast)
+        .map(ScopedType::typeScope)
+        .forEach(typeScope -> collectScopes(typeScope, scopes));
+  }
+
+  private void indexSourceFiles(List<UnitData> units) {
     ProgressReport progressReport =
         new ProgressReport(
             "Report about progress of Symbol Table construction",
             TimeUnit.SECONDS.toMillis(10),
             "indexed");
 
-    indexSystemUnit();
-    indexSysInitUnit();
-    progressReport.start(getSourceFileNames());
+    progressReport.start(getSourceFileNames(units));
 
     boolean success = false;
 
     try {
-      for (UnitData unit : sourceFileUnits) {
-        indexUnit(unit, ResolutionLevel.COMPLETE);
+      for (int i = 0; i < units.size(); ++i) {
+        prefetchSourceFiles(units, i + 1);
+        indexUnit(units.get(i), ResolutionLevel.COMPLETE);
         progressReport.nextFile();
       }
       success = true;
     } finally {
       stopProgressReport(progressReport, success);
     }
+  }
 
-    return symbolTable;
+  private void prefetchSourceFiles(List<UnitData> units, int start) {
+    if (prefetcher != null) {
+      int end = Math.min(start + threads, units.size());
+      for (int i = start; i < end; ++i) {
+        prefetcher.prefetch(units.get(i), false);
+      }
+    }
   }
 
-  private Iterable<String> getSourceFileNames() {
-    return sourceFileUnits.stream()
+  private static Iterable<String> getSourceFileNames(List<UnitData> units) {
+    return units.stream()
         .map(data -> data.unitFile)
         .map(Path::toString)
         .collect(Collectors.toUnmodifiableList());
   }
 
+  /**
+   * Lexes, preprocesses and parses units ahead of time on a pool of worker threads.
+   *
+   * <p>Only the next few source files and the direct imports of units as they are taken are
+   * prefetched, and the number of parses that are in flight or waiting to be taken is capped.
+   * Symbol resolution takes the parsed files on the calling thread, or parses them inline if they
+   * haven't been started yet. All bookkeeping is done under the prefetcher's lock, so each parse is
+   * either taken or cancelled exactly once.
+   */
+  private final class ParsePrefetcher {
+    private final ExecutorService executor;
+    private final int capacity;
+    private final Map<UnitData, Future<DelphiFile>> interfaceParses = new LinkedHashMap<>();
+    private final Map<UnitData, Future<DelphiFile>> completeParses = new LinkedHashMap<>();
+    private final Set<UnitData> interfaceConsumed = new HashSet<>();
+    private final Set<UnitData> completeConsumed = new HashSet<>();
+
+    private ParsePrefetcher(int threads) {
+      this.executor =
+          Executors.newFixedThreadPool(
+              threads,
+              new ThreadFactoryBuilder()
+                  .setNameFormat("delphi-symbol-table-%d")
+                  .setDaemon(true)
+                  .build());
+      this.capacity = 2 * threads;
+    }
+
+    private synchronized void prefetch(UnitData unit, boolean shouldSkipImplementation) {
+      if (consumed(shouldSkipImplementation).contains(unit)
+          || parses(shouldSkipImplementation).containsKey(unit)
+          || (shouldSkipImplementation && completeParses.containsKey(unit))) {
+        return;
+      }
+
+      if (size() >= capacity) {
+        discardOrphans();
+      }
+
+      if (size() >= capacity) {
+        // Make room by dropping the oldest speculative interface parse, if there is one
+        Iterator<Map.Entry<UnitData, Future<DelphiFile>>> oldest =
+            interfaceParses.entrySet().iterator();
+        if (shouldSkipImplementation || !oldest.hasNext()) {
+          return;
+        }
+        discard(oldest.next().getValue());
+        oldest.remove();
+      }
+
+      parses(shouldSkipImplementation)
+          .put(unit, executor.submit(() -> parseFile(unit, shouldSkipImplementation)));
+    }
+
+    private DelphiFile take(UnitData unit, boolean shouldSkipImplementation) {
+      Future<DelphiFile> future;
+      synchronized (this) {
+        consumed(shouldSkipImplementation).add(unit);
+        if (!shouldSkipImplementation) {
+          // A complete parse supersedes any interface parse of the same unit.
+          interfaceConsumed.add(unit);
+          discard(interfaceParses.remove(unit));
+        }
+        future = parses(shouldSkipImplementation).remove(unit);
+      }
+
+      if (future == null || future.cancel(false)) {
+        return parseFile(unit, shouldSkipImplementation);
+      }
+
+      return get(future);
+    }
+
+    @Nullable
+    private DelphiFile takeIfDone(UnitData unit) {
+      Future<DelphiFile> future;
+      synchronized (this) {
+        future = interfaceParses.get(unit);
+        if (future == null || !future.isDone()) {
+          return null;
+        }
+        interfaceParses.remove(unit);
+        interfaceConsumed.add(unit);
+      }
+      return future.isCancelled() ? null : get(future);
+    }
+
+    private DelphiFile get(Future<DelphiFile> future) {
+      try {
+        return future.get();
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+          throw (Error) cause;
+        }
+        throw new SymbolTableConstructionException(e);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new SymbolTableConstructionException(e);
+      }
+    }
+
+    /** Cancels parses of units that have since been resolved without them. */
+    private void discardOrphans() {
+      discardOrphans(interfaceParses, ResolutionLevel.INTERFACE);
+      discardOrphans(completeParses, ResolutionLevel.COMPLETE);
+    }
+
+    private void discardOrphans(
+        Map<UnitData, Future<DelphiFile>> parses, ResolutionLevel resolutionLevel) {
+      Iterator<Map.Entry<UnitData, Future<DelphiFile>>> iterator = parses.entrySet().iterator();
+      while (iterator.hasNext()) {
+        Map.Entry<UnitData, Future<DelphiFile>> entry = iterator.next();
+        if (entry.getKey().resolved.ordinal() >= resolutionLevel.ordinal()) {
+          discard(entry.getValue());
+          iterator.remove();
+        }
+      }
+    }
+
+    private void discard(@Nullable Future<DelphiFile> future) {
+      if (future != null) {
+        future.cancel(true);
+      }
+    }
+
+    private int size() {
+      return interfaceParses.size() + completeParses.size();
+    }
+
+    private synchronized void shutdown() {
+      interfaceParses.values().forEach(this::discard);
+      completeParses.values().forEach(this::discard);
+      interfaceParses.clear();
+      completeParses.clear();
+      executor.shutdownNow();
+    }
+
+    private Map<UnitData, Future<DelphiFile>> parses(boolean shouldSkipImplementation) {
+      return shouldSkipImplementation ? interfaceParses : completeParses;
+    }
+
+    private Set<UnitData> consumed(boolean shouldSkipImplementation) {
+      return shouldSkipImplementation ? interfaceConsumed : completeConsumed;
+    }
+  }
+
   private enum ResolutionLevel {
     NONE,
     INTERFACE,
@@ -516,6 +923,72 @@ public class SymbolTableBuilder {
     }
   }
 
+  /**
+   * A standard library that was indexed once, and can be shared by any number of symbol tables
+   * built with the same type factory and configuration.
+   */
+  public static final class StandardLibrary {
+    private final Path path;
+    private final TypeFactory typeFactory;
+    private final Map<String, UnitData> unitsByName;
+    private final SystemScope systemScope;
+    private final SysInitScope sysInitScope;
+    private final Map<DelphiScope, Map<NameDeclaration, Integer>> occurrenceCounts;
+
+    private StandardLibrary(SymbolTableBuilder builder, Set<DelphiScope> scopes) {
+      this.path = builder.standardLibraryPath;
+      this.typeFactory = builder.typeFactory;
+      this.unitsByName = Map.copyOf(builder.allUnitsByName);
+      this.systemScope = builder.systemScope;
+      this.sysInitScope = builder.sysInitScope;
+      this.occurrenceCounts = new IdentityHashMap<>();
+      scopes.forEach(scope -> occurrenceCounts.put(scope, countOccurrences(scope)));
+    }
+
+    private static Map<NameDeclaration, Integer> countOccurrences(DelphiScope scope) {
+      Map<NameDeclaration, Integer> result = new IdentityHashMap<>();
+      for (NameDeclaration declaration : scope.getAllDeclarations()) {
+        int count = scope.getOccurrencesFor(declaration).size();
+        if (count > 0) {
+          result.put(declaration, count);
+        }
+      }
+      return result;
+    }
+
+    /**
+     * Discards what the last symbol table built against this standard library left behind in it:
+     * the name occurrences recorded in its scopes, and the comparison and overload resolution caches
+     * of the type factory. Must not be called while a symbol table is being built against it.
+     */
+    public void reset() {
+      occurrenceCounts.forEach(StandardLibrary::discardOccurrences);
+      if (typeFactory instanceof TypeFactoryImpl) {
+        ((TypeFactoryImpl) typeFactory).getTypeComparisonCache().clear();
+        ((TypeFactoryImpl) typeFactory).getInvocationResolutionCache().clear();
+      }
+    }
+
+    private static void discardOccurrences(DelphiScope scope, Map<NameDeclaration, Integer> kept) {
+      for (NameDeclaration declaration : scope.getAllDeclarations()) {
+        // Occurrences are only ever appended, so anything past the original count is from a build
+        List<NameOccurrence> occurrences = scope.getOccurrencesFor(declaration);
+        int count = kept.getOrDefault(declaration, 0);
+        if (occurrences.size() > count) {
+          occurrences.subList(count, occurrences.size()).clear();
+        }
+      }
+    }
+
+    public Path getPath() {
+      return path;
+    }
+
+    public TypeFactory getTypeFactory() {
+      return typeFactory;
+    }
+  }
+
   public static class SymbolTableConstructionException extends RuntimeException {
     SymbolTableConstructionException(String message) {
       super(message);
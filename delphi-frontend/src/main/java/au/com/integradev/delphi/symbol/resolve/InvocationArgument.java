@@ -88,6 +88,18 @@ public class InvocationArgument implements Typed {
         && literal.getValue().equals(BigInteger.ZERO);
   }
 
+  /**
+   * Whether the outcome of overload resolution depends on nothing but this argument's type. Literal
+   * values, array constructors and routine references are inspected beyond their types.
+   *
+   * @return true if the argument can be represented by its type in a resolution cache key
+   */
+  boolean isCacheable() {
+    return !looksLikeProceduralReference()
+        && ExpressionNodeUtils.unwrapInteger(expression) == null
+        && !expression.getType().isArrayConstructor();
+  }
+
   Type findRoutineReferenceType(Type parameterType) {
     Preconditions.checkArgument(parameterType instanceof ProceduralType);
     Preconditions.checkNotNull(resolver);
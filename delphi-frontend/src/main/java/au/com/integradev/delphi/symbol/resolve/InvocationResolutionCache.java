@@ -0,0 +1,141 @@
+/*
+ * Sonar Delphi Plugin
+ * Copyright (C) 2026 Integrated Application Development
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02
+ */
+package au.com.integradev.delphi.symbol.resolve;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.sonar.plugins.communitydelphi.api.symbol.Invocable;
+import org.sonar.plugins.communitydelphi.api.type.Type;
+
+/**
+ * Bounded cache of overload resolution results, shared by the {@link InvocationResolver}s of one
+ * analysis. It is owned by the analysis' type factory, so the declarations and types that it refers
+ * to are released along with the rest of the analysis.
+ *
+ * <p>Entries are keyed by the identities of the candidate declarations and argument types, and
+ * record which candidates survived {@link InvocationResolver#chooseBest()}. The least recently
+ * used entries are evicted once the cache is full.
+ */
+public final class InvocationResolutionCache {
+  private static final int MAX_SIZE = 4096;
+
+  private final Map<Key, int[]> results;
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+
+  public InvocationResolutionCache() {
+    this(MAX_SIZE);
+  }
+
+  InvocationResolutionCache(int maxSize) {
+    this.results =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Key, int[]> eldest) {
+            return size() > maxSize;
+          }
+        };
+  }
+
+  synchronized int[] get(Key key) {
+    int[] result = results.get(key);
+    if (result == null) {
+      missCount.incrementAndGet();
+    } else {
+      hitCount.incrementAndGet();
+    }
+    return result;
+  }
+
+  synchronized void put(Key key, int[] result) {
+    results.put(key, result);
+  }
+
+  public synchronized int size() {
+    return results.size();
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  /** Discards all cached results and resets the hit/miss counters. */
+  public synchronized void clear() {
+    results.clear();
+    hitCount.set(0);
+    missCount.set(0);
+  }
+
+  static final class Key {
+    private final Type[] argumentTypes;
+    private final Invocable[] candidates;
+    private final int hashCode;
+
+    Key(List<Type> argumentTypes, List<Invocable> candidates) {
+      this.argumentTypes = argumentTypes.toArray(Type[]::new);
+      this.candidates = candidates.toArray(Invocable[]::new);
+      this.hashCode = 31 * identityHashCode(this.argumentTypes) + identityHashCode(this.candidates);
+    }
+
+    private static int identityHashCode(Object[] objects) {
+      int result = 1;
+      for (Object object : objects) {
+        result = 31 * result + System.identityHashCode(object);
+      }
+      return result;
+    }
+
+    private static boolean identical(Object[] a, Object[] b) {
+      if (a.length != b.length) {
+        return false;
+      }
+      for (int i = 0; i < a.length; ++i) {
+        if (a[i] != b[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      Key other = (Key) o;
+      return hashCode == other.hashCode
+          && identical(argumentTypes, other.argumentTypes)
+          && identical(candidates, other.candidates);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
@@ -30,15 +30,20 @@ import static java.util.function.Predicate.not;
 
 import au.com.integradev.delphi.symbol.resolve.TypeConverter.TypeConversion;
 import au.com.integradev.delphi.type.TypeUtils;
+import au.com.integradev.delphi.type.factory.TypeFactoryImpl;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ComparisonChain;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.annotation.Nullable;
+import org.sonar.plugins.communitydelphi.api.symbol.Invocable;
 import org.sonar.plugins.communitydelphi.api.type.CodePages;
 import org.sonar.plugins.communitydelphi.api.type.IntrinsicType;
 import org.sonar.plugins.communitydelphi.api.type.Parameter;
@@ -50,6 +55,7 @@ import org.sonar.plugins.communitydelphi.api.type.Type.IntegerType;
 import org.sonar.plugins.communitydelphi.api.type.Type.ProceduralType;
 import org.sonar.plugins.communitydelphi.api.type.Type.ProceduralType.ProceduralKind;
 import org.sonar.plugins.communitydelphi.api.type.Type.StructType;
+import org.sonar.plugins.communitydelphi.api.type.TypeFactory;
 
 /**
  * Resolves an invocation to the correct declaration. Based directly off of the tcallcandidates
@@ -61,10 +67,41 @@ import org.sonar.plugins.communitydelphi.api.type.Type.StructType;
 public class InvocationResolver {
   private final List<InvocationCandidate> candidates;
   private final List<InvocationArgument> arguments;
+  @Nullable private final InvocationResolutionCache cache;
+  @Nullable private final TypeComparisonCache comparisonCache;
+  private InvocationResolutionCache.Key cacheKey;
+  private int[] cachedResult;
 
   public InvocationResolver() {
+    this(null, null);
+  }
+
+  /**
+   * Creates a resolver that shares resolution and type comparison results through the caches owned
+   * by the type factory, so they live as long as the analysis that the type factory belongs to.
+   *
+   * @param typeFactory the type factory of the current analysis
+   */
+  public InvocationResolver(TypeFactory typeFactory) {
+    this(
+        typeFactory instanceof TypeFactoryImpl
+            ? ((TypeFactoryImpl) typeFactory).getInvocationResolutionCache()
+            : null,
+        typeFactory instanceof TypeFactoryImpl
+            ? ((TypeFactoryImpl) typeFactory).getTypeComparisonCache()
+            : null);
+  }
+
+  InvocationResolver(@Nullable InvocationResolutionCache cache) {
+    this(cache, null);
+  }
+
+  private InvocationResolver(
+      @Nullable InvocationResolutionCache cache, @Nullable TypeComparisonCache comparisonCache) {
     this.candidates = new ArrayList<>();
     this.arguments = new ArrayList<>();
+    this.cache = cache;
+    this.comparisonCache = comparisonCache;
   }
 
   public void addCandidate(InvocationCandidate candidate) {
@@ -87,6 +124,14 @@ public class InvocationResolver {
    *     tcallcandidates.get_information</a>
    */
   public void processCandidates() {
+    cacheKey = cache == null ? null : createCacheKey();
+    if (cacheKey != null) {
+      cachedResult = cache.get(cacheKey);
+      if (cachedResult != null) {
+        return;
+      }
+    }
+
     for (InvocationCandidate candidate : candidates) {
       for (int i = 0; i < arguments.size(); ++i) {
         InvocationArgument argument = arguments.get(i);
@@ -100,13 +145,28 @@ public class InvocationResolver {
     }
   }
 
+  private InvocationResolutionCache.Key createCacheKey() {
+    List<Type> argumentTypes = new ArrayList<>(arguments.size());
+    for (InvocationArgument argument : arguments) {
+      if (!argument.isCacheable()) {
+        return null;
+      }
+      argumentTypes.add(argument.getType());
+    }
+
+    List<Invocable> invocables =
+        candidates.stream().map(InvocationCandidate::getData).collect(Collectors.toList());
+
+    return new InvocationResolutionCache.Key(argumentTypes, invocables);
+  }
+
   /**
    * Checks a particular argument against the invocation candidate parameter.
    *
    * @see <a href="https://github.com/fpc/FPCSource/blob/main/compiler/htypechk.pas#L2884">
    *     tcallcandidates.get_information</a>
    */
-  private static void processArgument(
+  private void processArgument(
       InvocationCandidate candidate, InvocationArgument argument, Parameter parameter) {
     Type argumentType = argument.getType();
     Type parameterType = parameter.getType();
@@ -127,7 +187,7 @@ public class InvocationResolver {
       argumentType = argument.findRoutineReferenceType(parameterType);
     }
 
-    EqualityType equality = TypeComparer.compare(argumentType, parameterType);
+    EqualityType equality = TypeComparer.compare(argumentType, parameterType, comparisonCache);
 
     if (equality != EXACT) {
       if (equality == INCOMPATIBLE_TYPES) {
@@ -398,6 +458,10 @@ public class InvocationResolver {
       return Collections.emptySet();
     }
 
+    if (cachedResult != null) {
+      return applyCachedResult();
+    }
+
     InvocationCandidate bestCandidate = candidates.get(0);
 
     for (int i = 1; i < candidates.size(); ++i) {
@@ -421,11 +485,28 @@ public class InvocationResolver {
       }
     }
 
+    if (cacheKey != null) {
+      cache.put(
+          cacheKey,
+          IntStream.range(0, candidates.size())
+              .filter(i -> !candidates.get(i).isInvalid())
+              .toArray());
+    }
+
     return candidates.stream()
         .filter(not(InvocationCandidate::isInvalid))
         .collect(Collectors.toSet());
   }
 
+  private Set<InvocationCandidate> applyCachedResult() {
+    for (int i = 0; i < candidates.size(); ++i) {
+      if (Arrays.binarySearch(cachedResult, i) < 0) {
+        candidates.get(i).setInvalid();
+      }
+    }
+    return Arrays.stream(cachedResult).mapToObj(candidates::get).collect(Collectors.toSet());
+  }
+
   /**
    * To choose the best candidate we use the following order:
    *
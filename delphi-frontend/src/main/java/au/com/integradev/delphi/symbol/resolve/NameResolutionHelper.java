@@ -575,7 +575,7 @@ public class NameResolutionHelper {
 
   private static boolean handlePascalReturn(
       PrimaryExpressionNode expression, NameResolver resolver) {
-    if (expression.getChildren().size() != 1) {
+    if (expression.getChildCount() != 1) {
       return false;
     }
 
@@ -407,7 +407,7 @@ public class NameResolver {
 
     int nextChild = ExpressionNodeUtils.isBareInherited(node) ? 1 : 2;
 
-    for (int i = nextChild; i < node.getChildren().size(); ++i) {
+    for (int i = nextChild; i < node.getChildCount(); ++i) {
       readPrimaryExpressionPart(node.getChild(i));
     }
 
@@ -1069,7 +1069,7 @@ public class NameResolver {
 
     argumentExpressions.forEach(getNameResolutionHelper()::resolveSubExpressions);
 
-    InvocationResolver resolver = new InvocationResolver();
+    InvocationResolver resolver = new InvocationResolver(typeFactory);
     argumentExpressions.stream().map(InvocationArgument::new).forEach(resolver::addArgument);
     createCandidates(resolver);
 
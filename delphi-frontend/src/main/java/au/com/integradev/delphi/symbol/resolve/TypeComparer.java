@@ -35,6 +35,7 @@ import au.com.integradev.delphi.type.intrinsic.IntrinsicArgumentMatcher;
 import com.google.common.annotations.VisibleForTesting;
 import java.util.Comparator;
 import java.util.List;
+import javax.annotation.Nullable;
 import org.sonar.plugins.communitydelphi.api.type.IntrinsicType;
 import org.sonar.plugins.communitydelphi.api.type.Parameter;
 import org.sonar.plugins.communitydelphi.api.type.Type;
@@ -56,6 +57,27 @@ final class TypeComparer {
     // Utility class
   }
 
+  /**
+   * Compares two types, memoizing the result in the given cache when both types are stable.
+   *
+   * @param from The type we are comparing from
+   * @param to The type we are comparing to
+   * @param cache The comparison cache of the current analysis, or null to compare from scratch
+   * @return equality type
+   */
+  static EqualityType compare(Type from, Type to, @Nullable TypeComparisonCache cache) {
+    if (cache == null || !cache.isCacheable(from, to)) {
+      return compare(from, to);
+    }
+
+    EqualityType result = cache.get(from, to);
+    if (result == null) {
+      result = compare(from, to);
+      cache.put(from, to, result);
+    }
+    return result;
+  }
+
   /**
    * Based directly off of compare_defs_ext from the FreePascal compiler.
    *
@@ -0,0 +1,194 @@
+/*
+ * Sonar Delphi Plugin
+ * Copyright (C) 2026 Integrated Application Development
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02
+ */
+package au.com.integradev.delphi.symbol.resolve;
+
+import au.com.integradev.delphi.type.factory.ClassReferenceTypeImpl;
+import au.com.integradev.delphi.type.factory.PointerTypeImpl;
+import au.com.integradev.delphi.type.factory.StructTypeImpl;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.concurrent.atomic.AtomicLong;
+import org.sonar.plugins.communitydelphi.api.type.Parameter;
+import org.sonar.plugins.communitydelphi.api.type.Type;
+import org.sonar.plugins.communitydelphi.api.type.Type.AliasType;
+import org.sonar.plugins.communitydelphi.api.type.Type.ArrayConstructorType;
+import org.sonar.plugins.communitydelphi.api.type.Type.CollectionType;
+import org.sonar.plugins.communitydelphi.api.type.Type.FileType;
+import org.sonar.plugins.communitydelphi.api.type.Type.ProceduralType;
+import org.sonar.plugins.communitydelphi.api.type.Type.SubrangeType;
+
+/**
+ * Bounded, thread-safe memo of {@link TypeComparer#compare} results, keyed by the identities of the
+ * compared types.
+ *
+ * <p>The cache is owned by the type factory of an analysis, so it never outlives the types that it
+ * refers to.
+ *
+ * <p>Setting the {@value #DISABLED_PROPERTY} system property to {@code true} turns the cache off,
+ * so that every comparison is made from scratch.
+ */
+public final class TypeComparisonCache {
+  public static final String DISABLED_PROPERTY = "sonar.delphi.typeComparisonCache.disabled";
+
+  private static final long MAX_SIZE = 65536;
+  private static final int MAX_DEPTH = 32;
+
+  private final Cache<Key, EqualityType> results;
+  private final Cache<Type, Boolean> stableTypes;
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private final boolean enabled;
+
+  public TypeComparisonCache() {
+    this(MAX_SIZE, !Boolean.getBoolean(DISABLED_PROPERTY));
+  }
+
+  TypeComparisonCache(long maxSize, boolean enabled) {
+    this.results = CacheBuilder.newBuilder().maximumSize(maxSize).build();
+    this.stableTypes = CacheBuilder.newBuilder().weakKeys().maximumSize(maxSize).build();
+    this.enabled = enabled;
+  }
+
+  EqualityType get(Type from, Type to) {
+    EqualityType result = results.getIfPresent(new Key(from, to));
+    if (result == null) {
+      missCount.incrementAndGet();
+    } else {
+      hitCount.incrementAndGet();
+    }
+    return result;
+  }
+
+  void put(Type from, Type to, EqualityType result) {
+    results.put(new Key(from, to), result);
+  }
+
+  /**
+   * Whether the comparison between two types can be memoized. Types that are still being resolved
+   * or completed can change underneath us, as can any type composed of them, so they are always
+   * compared from scratch.
+   *
+   * <p>A type that is stable stays stable, so that is only worked out once per type.
+   */
+  boolean isCacheable(Type from, Type to) {
+    return enabled && isStable(from, 0) && isStable(to, 0);
+  }
+
+  private boolean isStable(Type type, int depth) {
+    if (stableTypes.getIfPresent(type) != null) {
+      return true;
+    }
+
+    boolean result = computeStable(type, depth);
+    if (result) {
+      stableTypes.put(type, Boolean.TRUE);
+    }
+    return result;
+  }
+
+  private boolean computeStable(Type type, int depth) {
+    if (depth > MAX_DEPTH
+        || type.isUnresolved()
+        || type.isUnknown()
+        || type.isTypeParameter()) {
+      return false;
+    }
+
+    int next = depth + 1;
+
+    if (type instanceof StructTypeImpl) {
+      StructTypeImpl struct = (StructTypeImpl) type;
+      return struct.isComplete()
+          && struct.typeArguments().stream().allMatch(argument -> isStable(argument, next))
+          && struct.ancestorList().stream().allMatch(ancestor -> isStable(ancestor, next));
+    } else if (type instanceof PointerTypeImpl) {
+      PointerTypeImpl pointer = (PointerTypeImpl) type;
+      return pointer.isComplete() && isStable(pointer.dereferencedType(), next);
+    } else if (type instanceof ClassReferenceTypeImpl) {
+      ClassReferenceTypeImpl classReference = (ClassReferenceTypeImpl) type;
+      return classReference.isComplete() && isStable(classReference.classType(), next);
+    } else if (type.isAlias()) {
+      return isStable(((AliasType) type).aliasedType(), next);
+    } else if (type.isArrayConstructor()) {
+      return ((ArrayConstructorType) type)
+          .elementTypes().stream().allMatch(element -> isStable(element, next));
+    } else if (type instanceof CollectionType) {
+      return isStable(((CollectionType) type).elementType(), next);
+    } else if (type.isProcedural()) {
+      ProceduralType procedural = (ProceduralType) type;
+      return isStable(procedural.returnType(), next)
+          && procedural.parameters().stream()
+              .map(Parameter::getType)
+              .allMatch(parameter -> isStable(parameter, next));
+    } else if (type.isFile()) {
+      return isStable(((FileType) type).fileType(), next);
+    } else if (type.isSubrange()) {
+      return isStable(((SubrangeType) type).hostType(), next);
+    }
+
+    return true;
+  }
+
+  public long size() {
+    return results.size();
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  /** Discards all memoized results and resets the hit/miss counters. */
+  public void clear() {
+    results.invalidateAll();
+    stableTypes.invalidateAll();
+    hitCount.set(0);
+    missCount.set(0);
+  }
+
+  private static final class Key {
+    private final Type from;
+    private final Type to;
+
+    private Key(Type from, Type to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      Key other = (Key) o;
+      return from == other.from && to == other.to;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * System.identityHashCode(from) + System.identityHashCode(to);
+    }
+  }
+}
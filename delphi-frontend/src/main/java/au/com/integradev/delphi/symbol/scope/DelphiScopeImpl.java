@@ -65,6 +65,7 @@ public class DelphiScopeImpl implements DelphiScope {
   private final Map<String, HelperType> helpersByType;
 
   private DelphiScope parent;
+  private int modificationCount;
 
   protected DelphiScopeImpl() {
     declarationSet = new HashSet<>();
@@ -93,6 +94,27 @@ public class DelphiScopeImpl implements DelphiScope {
     declarationsByName.put(declaration.getImage(), declaration);
     addDeclarationByClass(declaration);
     handleHelperDeclaration(declaration);
+    ++modificationCount;
+  }
+
+  /**
+   * Returns the number of declarations that have been added to this scope, so that lookups cached
+   * outside of this scope can tell when they're out of date.
+   *
+   * @return number of declarations added to this scope
+   */
+  int getModificationCount() {
+    return modificationCount;
+  }
+
+  /**
+   * Returns whether this scope has any declarations with the given name, without allocating.
+   *
+   * @param image the name to look for
+   * @return true if this scope has any declarations with the given name
+   */
+  boolean hasDeclarationsNamed(String image) {
+    return declarationsByName.containsKey(image);
   }
 
   private void addDeclarationByClass(NameDeclaration declaration) {
@@ -252,8 +274,13 @@ public class DelphiScopeImpl implements DelphiScope {
       return;
     }
 
-    for (RoutineNameDeclaration declaration : this.getRoutineDeclarations()) {
-      if (isRoutineOverload(declaration, occurrence, result, overloadsRequireOverloadDirective())) {
+    for (NameDeclaration declaration : getDeclarationsNamed(occurrence.getImage())) {
+      if (declaration instanceof RoutineNameDeclaration
+          && isRoutineOverload(
+              (RoutineNameDeclaration) declaration,
+              occurrence,
+              result,
+              overloadsRequireOverloadDirective())) {
         result.add(declaration);
       }
     }
@@ -325,14 +352,24 @@ public class DelphiScopeImpl implements DelphiScope {
         && declaration.hasSameParameterTypes(overridden);
   }
 
+  /**
+   * Returns the declarations in this scope with the given name.
+   *
+   * @param image the name to look for
+   * @return declarations with the given name
+   */
+  protected Set<NameDeclaration> getDeclarationsNamed(String image) {
+    return declarationsByName.get(image);
+  }
+
   @Override
   public Set<NameDeclaration> findDeclaration(NameOccurrence occurrence) {
     Set<NameDeclaration> result = Collections.emptySet();
 
-    Set<NameDeclaration> found = declarationsByName.get(occurrence.getImage());
+    Set<NameDeclaration> found = getDeclarationsNamed(occurrence.getImage());
     if (occurrence.isAttributeReference()) {
       found = new HashSet<>(found);
-      found.addAll(declarationsByName.get(occurrence.getImage() + "Attribute"));
+      found.addAll(getDeclarationsNamed(occurrence.getImage() + "Attribute"));
     }
 
     if (!found.isEmpty()) {
@@ -29,9 +29,10 @@ import au.com.integradev.delphi.antlr.ast.node.RoutineNameNodeImpl;
 import com.google.common.collect.Iterables;
 import java.util.ArrayDeque;
 import java.util.Deque;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,10 +57,14 @@ public abstract class FileScopeImpl extends DelphiScopeImpl implements FileScope
   private static final Logger LOG = LoggerFactory.getLogger(FileScopeImpl.class);
   private final String name;
   private final Deque<FileScope> imports = new ArrayDeque<>();
-  private Map<Integer, DelphiScope> registeredScopes = new HashMap<>();
-  private Map<Integer, NameDeclaration> registeredDeclarations = new HashMap<>();
-  private Map<Integer, NameOccurrence> registeredOccurrences = new HashMap<>();
-  private Map<Integer, EnumeratorOccurrence> registeredEnumeratorOccurrences = new HashMap<>();
+  private final Map<String, List<FileScope>> importsByName =
+      new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+  private int importsModificationCount = -1;
+  private TokenIndexMap<DelphiScope> registeredScopes = new TokenIndexMap<>();
+  private TokenIndexMap<NameDeclaration> registeredDeclarations = new TokenIndexMap<>();
+  private TokenIndexMap<NameOccurrence> registeredOccurrences = new TokenIndexMap<>();
+  private TokenIndexMap<EnumeratorOccurrence> registeredEnumeratorOccurrences =
+      new TokenIndexMap<>();
 
   protected FileScopeImpl(String name) {
     this.name = name;
@@ -68,7 +73,7 @@ public abstract class FileScopeImpl extends DelphiScopeImpl implements FileScope
   @Override
   public Set<NameDeclaration> findDeclaration(NameOccurrence occurrence) {
     Set<NameDeclaration> result = super.findDeclaration(occurrence);
-    for (FileScope importScope : imports) {
+    for (FileScope importScope : findImportsDeclaring(occurrence)) {
       if (result.isEmpty()) {
         result = importScope.shallowFindDeclaration(occurrence);
       } else {
@@ -78,6 +83,45 @@ public abstract class FileScopeImpl extends DelphiScopeImpl implements FileScope
     return result;
   }
 
+  /**
+   * Finds the imports that have any declarations with the occurrence's name, in import order.
+   *
+   * <p>Other imports can't contribute any declarations or routine overloads for the occurrence, so
+   * they can be skipped. The results are cached per name, including names that aren't declared by
+   * any imports, until an import is added or one of the imports gains a declaration.
+   *
+   * @param occurrence The name occurrence being resolved
+   * @return the imports that could declare the occurrence
+   */
+  private Iterable<FileScope> findImportsDeclaring(NameOccurrence occurrence) {
+    if (occurrence.isAttributeReference()) {
+      // Attribute references are also looked up with an "Attribute" suffix
+      return imports;
+    }
+
+    int modificationCount = getImportsModificationCount();
+    if (modificationCount != importsModificationCount) {
+      importsByName.clear();
+      importsModificationCount = modificationCount;
+    }
+
+    return importsByName.computeIfAbsent(
+        occurrence.getImage(),
+        image ->
+            imports.stream()
+                .filter(scope -> ((DelphiScopeImpl) scope).hasDeclarationsNamed(image))
+                .collect(Collectors.toUnmodifiableList()));
+  }
+
+  private int getImportsModificationCount() {
+    // Imports and declarations are only ever added, so this changes whenever either of them does
+    int result = imports.size();
+    for (FileScope importScope : imports) {
+      result += ((DelphiScopeImpl) importScope).getModificationCount();
+    }
+    return result;
+  }
+
   @Override
   public HelperType getHelperForType(Type type) {
     HelperType result = super.getHelperForType(type);
@@ -211,18 +255,18 @@ public abstract class FileScopeImpl extends DelphiScopeImpl implements FileScope
 
   /** Removes all scope registrations */
   public void unregisterScopes() {
-    registeredScopes = new HashMap<>(0);
+    registeredScopes = new TokenIndexMap<>(0);
   }
 
   /** Removes all name declaration registrations */
   public void unregisterDeclarations() {
-    registeredDeclarations = new HashMap<>(0);
+    registeredDeclarations = new TokenIndexMap<>(0);
   }
 
   /** Removes all name occurrence registrations */
   public void unregisterOccurrences() {
-    registeredOccurrences = new HashMap<>(0);
-    registeredEnumeratorOccurrences = new HashMap<>(0);
+    registeredOccurrences = new TokenIndexMap<>(0);
+    registeredEnumeratorOccurrences = new TokenIndexMap<>(0);
   }
 
   /**
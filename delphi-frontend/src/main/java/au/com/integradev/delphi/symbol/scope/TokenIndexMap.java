@@ -0,0 +1,101 @@
+/*
+ * Sonar Delphi Plugin
+ * Copyright (C) 2026 Integrated Application Development
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02
+ */
+package au.com.integradev.delphi.symbol.scope;
+
+/**
+ * Open-addressing map from token indices to values, which avoids boxing the keys.
+ *
+ * <p>File scopes register symbol information for most nodes in a file, so these maps can hold a
+ * very large number of entries across a codebase. Storing the keys in a primitive array keeps the
+ * footprint to two array slots per entry.
+ *
+ * @param <V> the value type
+ */
+final class TokenIndexMap<V> {
+  private static final int DEFAULT_CAPACITY = 16;
+  private static final Object NULL_VALUE = new Object();
+
+  private int[] keys;
+  private Object[] values;
+  private int size;
+
+  TokenIndexMap() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  TokenIndexMap(int capacity) {
+    int tableSize = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1);
+    keys = new int[tableSize];
+    values = new Object[tableSize];
+  }
+
+  void put(int key, V value) {
+    if (2 * (size + 1) > values.length) {
+      resize(values.length * 2);
+    }
+    int slot = findSlot(keys, values, key);
+    if (values[slot] == null) {
+      keys[slot] = key;
+      ++size;
+    }
+    values[slot] = value == null ? NULL_VALUE : value;
+  }
+
+  @SuppressWarnings("unchecked")
+  V get(int key) {
+    Object value = values[findSlot(keys, values, key)];
+    return value == NULL_VALUE ? null : (V) value;
+  }
+
+  int size() {
+    return size;
+  }
+
+  private void resize(int tableSize) {
+    int[] oldKeys = keys;
+    Object[] oldValues = values;
+    keys = new int[tableSize];
+    values = new Object[tableSize];
+    for (int i = 0; i < oldValues.length; ++i) {
+      if (oldValues[i] != null) {
+        int slot = findSlot(keys, values, oldKeys[i]);
+        keys[slot] = oldKeys[i];
+        values[slot] = oldValues[i];
+      }
+    }
+  }
+
+  /**
+   * Linear probe for the slot holding {@code key}, or the empty slot where it would be inserted.
+   * The table is never more than half full, so an empty slot is always found.
+   */
+  private static int findSlot(int[] keys, Object[] values, int key) {
+    int mask = values.length - 1;
+    int slot = mix(key) & mask;
+    while (values[slot] != null && keys[slot] != key) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private static int mix(int key) {
+    int hash = key * 0x9E3779B9;
+    return hash ^ (hash >>> 16);
+  }
+}
@@ -22,11 +22,25 @@ import static org.sonar.plugins.communitydelphi.api.symbol.scope.DelphiScope.unk
 import static org.sonar.plugins.communitydelphi.api.type.TypeFactory.unknownType;
 
 import au.com.integradev.delphi.type.generic.GenerifiableTypeImpl;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Supplier;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.sonar.plugins.communitydelphi.api.symbol.NameOccurrence;
+import org.sonar.plugins.communitydelphi.api.symbol.declaration.LabelNameDeclaration;
 import org.sonar.plugins.communitydelphi.api.symbol.declaration.NameDeclaration;
+import org.sonar.plugins.communitydelphi.api.symbol.declaration.PropertyNameDeclaration;
+import org.sonar.plugins.communitydelphi.api.symbol.declaration.RoutineNameDeclaration;
+import org.sonar.plugins.communitydelphi.api.symbol.declaration.TypeNameDeclaration;
+import org.sonar.plugins.communitydelphi.api.symbol.declaration.UnitImportNameDeclaration;
+import org.sonar.plugins.communitydelphi.api.symbol.declaration.UnitNameDeclaration;
+import org.sonar.plugins.communitydelphi.api.symbol.declaration.VariableNameDeclaration;
 import org.sonar.plugins.communitydelphi.api.symbol.scope.DelphiScope;
 import org.sonar.plugins.communitydelphi.api.symbol.scope.TypeScope;
 import org.sonar.plugins.communitydelphi.api.type.Type;
@@ -89,15 +103,47 @@ public class TypeScopeImpl extends DelphiScopeImpl implements TypeScope {
   /**
    * Specialized type scopes just wrap a generic type's "real" scope. Name occurrences of
    * specialized declarations are forwarded to their generic declarations in the real scope.
+   *
+   * <p>Declarations are specialized on demand, since most members of a specialized type are never
+   * referenced. Each specialized declaration is cached so that repeated lookups return the same
+   * instance.
    */
   private static final class SpecializedTypeScope extends TypeScopeImpl {
-    private final DelphiScope genericScope;
+    private final DelphiScopeImpl genericScope;
+    private final TypeSpecializationContext context;
+    private final Map<NameDeclaration, NameDeclaration> specializedDeclarations;
+    private Set<NameDeclaration> allDeclarations;
+    private int allDeclarationsModificationCount;
+    private Map<String, HelperType> helpersByType;
 
     private SpecializedTypeScope(DelphiScope scope, TypeSpecializationContext context) {
-      this.genericScope = scope;
-      scope.getAllDeclarations().stream()
-          .map(declaration -> declaration.specialize(context))
-          .forEach(super::addDeclaration);
+      this.genericScope = (DelphiScopeImpl) scope;
+      this.context = context;
+      this.specializedDeclarations = Collections.synchronizedMap(new IdentityHashMap<>());
+    }
+
+    private NameDeclaration specialize(NameDeclaration declaration) {
+      NameDeclaration specialized = specializedDeclarations.get(declaration);
+      if (specialized == null) {
+        // Specializing a declaration can specialize other members of this scope, so the map must
+        // not be locked while we do it.
+        specialized = declaration.specialize(context);
+        NameDeclaration existing = specializedDeclarations.putIfAbsent(declaration, specialized);
+        if (existing != null) {
+          specialized = existing;
+        }
+      }
+      return specialized;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends NameDeclaration> Set<T> specializeAll(
+        Set<? extends NameDeclaration> declarations, Supplier<Set<T>> setFactory) {
+      Set<T> result = setFactory.get();
+      for (NameDeclaration declaration : declarations) {
+        result.add((T) specialize(declaration));
+      }
+      return result;
     }
 
     @Override
@@ -107,7 +153,78 @@ public class TypeScopeImpl extends DelphiScopeImpl implements TypeScope {
 
     @Override
     public Set<NameDeclaration> addNameOccurrence(@Nonnull NameOccurrence occurrence) {
-      return ((DelphiScopeImpl) genericScope).addNameOccurrence(occurrence);
+      return genericScope.addNameOccurrence(occurrence);
+    }
+
+    @Override
+    protected Set<NameDeclaration> getDeclarationsNamed(String image) {
+      Set<NameDeclaration> declarations = genericScope.getDeclarationsNamed(image);
+      if (declarations.isEmpty()) {
+        return Collections.emptySet();
+      }
+      return specializeAll(declarations, TreeSet::new);
+    }
+
+    @Override
+    public synchronized Set<NameDeclaration> getAllDeclarations() {
+      int modificationCount = genericScope.getModificationCount();
+      if (allDeclarations == null || allDeclarationsModificationCount != modificationCount) {
+        Set<NameDeclaration> specialized =
+            specializeAll(genericScope.getAllDeclarations(), HashSet::new);
+        allDeclarations = Collections.unmodifiableSet(specialized);
+        allDeclarationsModificationCount = modificationCount;
+      }
+      return allDeclarations;
+    }
+
+    @Override
+    public Set<UnitNameDeclaration> getUnitDeclarations() {
+      return specializeAll(genericScope.getUnitDeclarations(), HashSet::new);
+    }
+
+    @Override
+    public Set<UnitImportNameDeclaration> getImportDeclarations() {
+      return specializeAll(genericScope.getImportDeclarations(), HashSet::new);
+    }
+
+    @Override
+    public Set<TypeNameDeclaration> getTypeDeclarations() {
+      return specializeAll(genericScope.getTypeDeclarations(), HashSet::new);
+    }
+
+    @Override
+    public Set<PropertyNameDeclaration> getPropertyDeclarations() {
+      return specializeAll(genericScope.getPropertyDeclarations(), HashSet::new);
+    }
+
+    @Override
+    public Set<RoutineNameDeclaration> getRoutineDeclarations() {
+      return specializeAll(genericScope.getRoutineDeclarations(), HashSet::new);
+    }
+
+    @Override
+    public Set<VariableNameDeclaration> getVariableDeclarations() {
+      return specializeAll(genericScope.getVariableDeclarations(), HashSet::new);
+    }
+
+    @Override
+    public Set<LabelNameDeclaration> getLabelDeclarations() {
+      return specializeAll(genericScope.getLabelDeclarations(), HashSet::new);
+    }
+
+    @Override
+    protected synchronized HelperType findHelper(Type type) {
+      if (helpersByType == null) {
+        helpersByType = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (TypeNameDeclaration declaration : getTypeDeclarations()) {
+          Type declaredType = declaration.getType();
+          if (declaredType.isHelper()) {
+            HelperType helper = (HelperType) declaredType;
+            helpersByType.put(helper.extendedType().getImage(), helper);
+          }
+        }
+      }
+      return helpersByType.get(type.getImage());
     }
   }
 }
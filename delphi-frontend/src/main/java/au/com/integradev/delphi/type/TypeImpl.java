@@ -53,7 +53,7 @@ public abstract class TypeImpl implements Type {
 
   @Override
   public final boolean is(Type type) {
-    return is(type.getImage());
+    return this == type || is(type.getImage());
   }
 
   @Override
@@ -25,12 +25,11 @@ public final class AnsiStringTypeImpl extends StringTypeImpl implements AnsiStri
   private final int codePage;
 
   AnsiStringTypeImpl(int size, CharacterType characterType, int codePage) {
-    super(null, size, characterType);
+    super(createImage(codePage), size, characterType);
     this.codePage = codePage;
   }
 
-  @Override
-  public String getImage() {
+  private static String createImage(int codePage) {
     String image = IntrinsicType.ANSISTRING.fullyQualifiedName();
     if (codePage != 0) {
       image += "(" + codePage + ")";
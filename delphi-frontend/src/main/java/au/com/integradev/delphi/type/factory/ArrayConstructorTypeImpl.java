@@ -27,6 +27,7 @@ import org.sonar.plugins.communitydelphi.api.type.Type.ArrayConstructorType;
 
 public final class ArrayConstructorTypeImpl extends TypeImpl implements ArrayConstructorType {
   private final ImmutableList<Type> elementTypes;
+  private String image;
 
   ArrayConstructorTypeImpl(List<Type> elementTypes) {
     this.elementTypes = ImmutableList.copyOf(elementTypes);
@@ -34,7 +35,11 @@ public final class ArrayConstructorTypeImpl extends TypeImpl implements ArrayCon
 
   @Override
   public String getImage() {
-    return "[" + elementTypes.stream().map(Type::getImage).collect(Collectors.joining(",")) + "]";
+    if (image == null) {
+      image =
+          "[" + elementTypes.stream().map(Type::getImage).collect(Collectors.joining(",")) + "]";
+    }
+    return image;
   }
 
   @Override
@@ -31,11 +31,17 @@ public final class ClassReferenceTypeImpl extends TypeImpl implements ClassRefer
   private final String image;
   private Type classType;
   private final int size;
+  private boolean complete;
 
   ClassReferenceTypeImpl(@Nullable String image, Type classType, int size) {
+    this(image, classType, size, true);
+  }
+
+  ClassReferenceTypeImpl(@Nullable String image, Type classType, int size, boolean complete) {
     this.image = image;
     this.classType = classType;
     this.size = size;
+    this.complete = complete;
   }
 
   @Override
@@ -70,5 +76,16 @@ public final class ClassReferenceTypeImpl extends TypeImpl implements ClassRefer
    */
   public void setClassType(Type type) {
     this.classType = type;
+    this.complete = true;
+  }
+
+  /**
+   * Whether this type is known to be final. Types created for a type declaration are incomplete
+   * until their class type has been set at the end of the type section.
+   *
+   * @return true if this type will not change anymore
+   */
+  public boolean isComplete() {
+    return complete;
   }
 }
@@ -26,6 +26,7 @@ import org.sonar.plugins.communitydelphi.api.type.TypeSpecializationContext;
 public class FileTypeImpl extends TypeImpl implements FileType {
   private final Type fileType;
   private final int size;
+  private String image;
 
   FileTypeImpl(Type fileType, int size) {
     this.fileType = fileType;
@@ -34,7 +35,10 @@ public class FileTypeImpl extends TypeImpl implements FileType {
 
   @Override
   public String getImage() {
-    return "file of " + fileType().getImage();
+    if (image == null) {
+      image = "file of " + fileType().getImage();
+    }
+    return image;
   }
 
   @Override
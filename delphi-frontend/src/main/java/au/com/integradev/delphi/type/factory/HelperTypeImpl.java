@@ -36,7 +36,7 @@ public final class HelperTypeImpl extends StructTypeImpl implements HelperType {
       Type extendedType,
       StructKind kind,
       List<Type> attributeTypes) {
-    super(imageParts, size, scope, parents, kind, attributeTypes);
+    super(imageParts, size, scope, parents, kind, attributeTypes, true);
     this.extendedType = extendedType;
   }
 
@@ -29,12 +29,19 @@ public final class PointerTypeImpl extends TypeImpl implements PointerType {
   private Type dereferencedType;
   private final int size;
   private boolean allowsPointerMath;
+  private boolean complete;
 
   PointerTypeImpl(String image, Type dereferencedType, int size, boolean allowsPointerMath) {
+    this(image, dereferencedType, size, allowsPointerMath, true);
+  }
+
+  PointerTypeImpl(
+      String image, Type dereferencedType, int size, boolean allowsPointerMath, boolean complete) {
     this.image = image;
     this.dereferencedType = dereferencedType;
     this.size = size;
     this.allowsPointerMath = allowsPointerMath;
+    this.complete = complete;
   }
 
   @Override
@@ -64,6 +71,17 @@ public final class PointerTypeImpl extends TypeImpl implements PointerType {
    */
   public void setDereferencedType(Type type) {
     this.dereferencedType = type;
+    this.complete = true;
+  }
+
+  /**
+   * Whether this type is known to be final. Types created for a type declaration are incomplete
+   * until their dereferenced type has been set at the end of the type section.
+   *
+   * @return true if this type will not change anymore
+   */
+  public boolean isComplete() {
+    return complete;
   }
 
   /** Flag that this pointer type was declared with {$POINTERMATH ON} */
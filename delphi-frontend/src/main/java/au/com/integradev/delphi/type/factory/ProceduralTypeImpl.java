@@ -35,6 +35,7 @@ public final class ProceduralTypeImpl extends GenerifiableTypeImpl implements Pr
   private final List<Parameter> parameters;
   private final Type returnType;
   private final Set<RoutineDirective> directives;
+  private String image;
 
   ProceduralTypeImpl(
       int size,
@@ -51,7 +52,10 @@ public final class ProceduralTypeImpl extends GenerifiableTypeImpl implements Pr
 
   @Override
   public String getImage() {
-    return kind.name() + makeSignature(parameters, returnType);
+    if (image == null) {
+      image = kind.name() + makeSignature(parameters, returnType);
+    }
+    return image;
   }
 
   @Override
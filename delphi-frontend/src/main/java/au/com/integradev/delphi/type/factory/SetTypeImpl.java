@@ -24,6 +24,7 @@ import org.sonar.plugins.communitydelphi.api.type.Type.CollectionType;
 
 public final class SetTypeImpl extends TypeImpl implements CollectionType {
   private final Type elementType;
+  private String image;
 
   SetTypeImpl(Type elementType) {
     this.elementType = elementType;
@@ -31,7 +32,10 @@ public final class SetTypeImpl extends TypeImpl implements CollectionType {
 
   @Override
   public String getImage() {
-    return "set of " + elementType().getImage();
+    if (image == null) {
+      image = "set of " + elementType().getImage();
+    }
+    return image;
   }
 
   @Override
@@ -47,6 +47,7 @@ public class StructTypeImpl extends GenerifiableTypeImpl implements StructType {
   private StructKind kind;
   private Type parent;
   private final List<Type> attributeTypes;
+  private boolean complete;
 
   StructTypeImpl(
       List<ImagePart> imageParts,
@@ -54,12 +55,14 @@ public class StructTypeImpl extends GenerifiableTypeImpl implements StructType {
       DelphiScope scope,
       Set<Type> ancestorList,
       StructKind kind,
-      List<Type> attributeTypes) {
+      List<Type> attributeTypes,
+      boolean complete) {
     this.imageParts = imageParts;
     this.size = size;
     this.scope = scope;
     this.kind = kind;
     this.attributeTypes = attributeTypes;
+    this.complete = complete;
     setAncestors(ancestorList);
   }
 
@@ -150,6 +153,29 @@ public class StructTypeImpl extends GenerifiableTypeImpl implements StructType {
     this.ancestorList = ImmutableSet.copyOf(fullType.ancestorList());
     this.kind = fullType.kind();
     this.parent = fullType.parent();
+    this.complete = true;
+  }
+
+  /**
+   * Whether this type is known to be final. Types that might be forward declarations are incomplete
+   * until {@link #setFullType} has been called.
+   *
+   * @return true if this type will not change anymore
+   */
+  public boolean isComplete() {
+    return complete;
+  }
+
+  /**
+   * Returns the type parameters (or type arguments, once specialized) of this type and of the types
+   * that it's nested in.
+   *
+   * @return list of type parameters or arguments
+   */
+  public List<Type> typeArguments() {
+    return imageParts.stream()
+        .flatMap(part -> part.getTypeParameters().stream())
+        .collect(Collectors.toUnmodifiableList());
   }
 
   @Override
@@ -187,7 +213,8 @@ public class StructTypeImpl extends GenerifiableTypeImpl implements StructType {
         scope,
         ancestorList,
         kind,
-        attributeTypes);
+        attributeTypes,
+        complete);
   }
 
   @Override
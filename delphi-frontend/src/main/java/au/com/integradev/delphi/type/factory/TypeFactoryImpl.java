@@ -25,21 +25,28 @@ import au.com.integradev.delphi.compiler.Bitness;
 import au.com.integradev.delphi.compiler.CompilerVersion;
 import au.com.integradev.delphi.compiler.Platform;
 import au.com.integradev.delphi.compiler.Toolchain;
+import au.com.integradev.delphi.symbol.resolve.InvocationResolutionCache;
+import au.com.integradev.delphi.symbol.resolve.TypeComparisonCache;
 import au.com.integradev.delphi.type.factory.StructTypeImpl.ImagePart;
+import com.google.common.cache.CacheBuilder;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import org.sonar.plugins.communitydelphi.api.ast.AttributeListNode;
 import org.sonar.plugins.communitydelphi.api.ast.ClassHelperTypeNode;
+import org.sonar.plugins.communitydelphi.api.ast.ClassTypeNode;
 import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
 import org.sonar.plugins.communitydelphi.api.ast.GenericDefinitionNode.TypeParameter;
 import org.sonar.plugins.communitydelphi.api.ast.HelperTypeNode;
+import org.sonar.plugins.communitydelphi.api.ast.InterfaceTypeNode;
 import org.sonar.plugins.communitydelphi.api.ast.Node;
 import org.sonar.plugins.communitydelphi.api.ast.TypeDeclarationNode;
 import org.sonar.plugins.communitydelphi.api.ast.TypeNode;
@@ -48,6 +55,7 @@ import org.sonar.plugins.communitydelphi.api.symbol.declaration.TypedDeclaration
 import org.sonar.plugins.communitydelphi.api.symbol.scope.DelphiScope;
 import org.sonar.plugins.communitydelphi.api.symbol.scope.FileScope;
 import org.sonar.plugins.communitydelphi.api.symbol.scope.SystemScope;
+import org.sonar.plugins.communitydelphi.api.token.DelphiTokenType;
 import org.sonar.plugins.communitydelphi.api.type.IntrinsicType;
 import org.sonar.plugins.communitydelphi.api.type.Parameter;
 import org.sonar.plugins.communitydelphi.api.type.StructKind;
@@ -70,6 +78,12 @@ import org.sonar.plugins.communitydelphi.api.type.Type.StructType;
 import org.sonar.plugins.communitydelphi.api.type.Type.SubrangeType;
 import org.sonar.plugins.communitydelphi.api.type.TypeFactory;
 
+/**
+ * Creates the types of an analysis, and owns the type caches that live as long as the analysis.
+ *
+ * <p>A type factory is safe to share between threads. Intrinsic types are created up front, and the
+ * interning maps and caches are all thread-safe.
+ */
 public class TypeFactoryImpl implements TypeFactory {
   private static final CompilerVersion VERSION_4 = CompilerVersion.fromVersionSymbol("VER120");
   private static final CompilerVersion VERSION_2009 = CompilerVersion.fromVersionNumber("20.0");
@@ -89,6 +103,13 @@ public class TypeFactoryImpl implements TypeFactory {
   private final PointerType nilPointer;
   private final FileType untypedFile;
   private final CollectionType emptySet;
+  private final Map<Type, CollectionType> setTypes = createInterner();
+  private final Map<Type, FileType> fileTypes = createInterner();
+  private final Map<Type, ClassReferenceType> anonymousClassReferenceTypes = createInterner();
+  private final Map<Integer, AnsiStringType> ansiStringTypes = new ConcurrentHashMap<>();
+  private final InvocationResolutionCache invocationResolutionCache =
+      new InvocationResolutionCache();
+  private final TypeComparisonCache typeComparisonCache = new TypeComparisonCache();
 
   @SuppressWarnings("this-escape")
   public TypeFactoryImpl(Toolchain toolchain, CompilerVersion compilerVersion) {
@@ -127,6 +148,23 @@ public class TypeFactoryImpl implements TypeFactory {
     }
   }
 
+  /**
+   * Composite types are interned by the identity of their component type. Both keys and values are
+   * weakly referenced, so interning doesn't keep anonymous component types (and the scopes and ASTs
+   * they refer to) alive once nothing else uses them.
+   */
+  private static <V> Map<Type, V> createInterner() {
+    return CacheBuilder.newBuilder().weakKeys().weakValues().<Type, V>build().asMap();
+  }
+
+  public InvocationResolutionCache getInvocationResolutionCache() {
+    return invocationResolutionCache;
+  }
+
+  public TypeComparisonCache getTypeComparisonCache() {
+    return typeComparisonCache;
+  }
+
   private boolean isReal48Bit() {
     // See: http://www.ebob42.eu/delphi4/language.htm
     return compilerVersion.compareTo(VERSION_4) < 0;
@@ -407,8 +445,11 @@ public class TypeFactoryImpl implements TypeFactory {
       return (AnsiStringType) getIntrinsic(IntrinsicType.ANSISTRING);
     }
 
-    return new AnsiStringTypeImpl(
-        pointerSize(), (CharacterType) getIntrinsic(IntrinsicType.ANSICHAR), codePage);
+    return ansiStringTypes.computeIfAbsent(
+        codePage,
+        key ->
+            new AnsiStringTypeImpl(
+                pointerSize(), (CharacterType) getIntrinsic(IntrinsicType.ANSICHAR), key));
   }
 
   public CollectionType array(@Nullable String image, Type elementType, Set<ArrayOption> options) {
@@ -431,7 +472,7 @@ public class TypeFactoryImpl implements TypeFactory {
 
   @Override
   public CollectionType set(Type type) {
-    return new SetTypeImpl(type);
+    return setTypes.computeIfAbsent(type, SetTypeImpl::new);
   }
 
   @Override
@@ -475,6 +516,18 @@ public class TypeFactoryImpl implements TypeFactory {
     return new PointerTypeImpl(image, type, pointerSize(), false);
   }
 
+  /**
+   * Creates the pointer type of a type declaration. Its dereferenced type is completed at the end
+   * of the type section, so the type is flagged as incomplete until then.
+   *
+   * @param image The fully qualified name of the type declaration
+   * @param type The dereferenced type, as far as it could be resolved so far
+   * @return pointer type
+   */
+  public PointerType declaredPointerTo(String image, Type type) {
+    return new PointerTypeImpl(image, type, pointerSize(), false, false);
+  }
+
   @Override
   public PointerType untypedPointer() {
     return (PointerType) getIntrinsic(IntrinsicType.POINTER);
@@ -487,7 +540,7 @@ public class TypeFactoryImpl implements TypeFactory {
 
   @Override
   public FileType fileOf(Type type) {
-    return new FileTypeImpl(type, sizeByBitness(592, 616));
+    return fileTypes.computeIfAbsent(type, key -> new FileTypeImpl(key, sizeByBitness(592, 616)));
   }
 
   @Override
@@ -497,9 +550,26 @@ public class TypeFactoryImpl implements TypeFactory {
 
   @Override
   public ClassReferenceType classOf(@Nullable String image, Type type) {
+    if (image == null) {
+      // Anonymous class references are never completed after the fact, so they can be shared.
+      return anonymousClassReferenceTypes.computeIfAbsent(
+          type, key -> new ClassReferenceTypeImpl(null, key, pointerSize()));
+    }
     return new ClassReferenceTypeImpl(image, type, pointerSize());
   }
 
+  /**
+   * Creates the class reference type of a type declaration. Its class type is completed at the end
+   * of the type section, so the type is flagged as incomplete until then.
+   *
+   * @param image The fully qualified name of the type declaration
+   * @param type The class type, as far as it could be resolved so far
+   * @return class reference type
+   */
+  public ClassReferenceType declaredClassOf(String image, Type type) {
+    return new ClassReferenceTypeImpl(image, type, pointerSize(), false);
+  }
+
   @Override
   public AliasType strongAlias(String image, Type aliased) {
     return typeAliasGenerator.generate(image, aliased, true);
@@ -539,7 +609,21 @@ public class TypeFactoryImpl implements TypeFactory {
     }
 
     return new StructTypeImpl(
-        imageParts, pointerSize(), node.getScope(), ancestors, kind, attributeTypes);
+        imageParts,
+        pointerSize(),
+        node.getScope(),
+        ancestors,
+        kind,
+        attributeTypes,
+        !isForwardDeclarationCandidate(node));
+  }
+
+  private static boolean isForwardDeclarationCandidate(TypeNode node) {
+    // Forward declarations are class or interface types without a body, like "TFoo = class;".
+    // They're completed once the full type declaration is found.
+    return node.getParent() instanceof TypeDeclarationNode
+        && (node instanceof ClassTypeNode || node instanceof InterfaceTypeNode)
+        && node.getFirstChildWithTokenType(DelphiTokenType.END) == null;
   }
 
   private static List<Type> getAttributeTypes(TypeDeclarationNode typeDeclaration) {
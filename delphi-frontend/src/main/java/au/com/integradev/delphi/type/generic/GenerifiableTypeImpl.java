@@ -19,8 +19,6 @@
 package au.com.integradev.delphi.type.generic;
 
 import au.com.integradev.delphi.type.TypeImpl;
-import java.util.HashMap;
-import java.util.Map;
 import org.sonar.plugins.communitydelphi.api.type.Type;
 import org.sonar.plugins.communitydelphi.api.type.TypeSpecializationContext;
 
@@ -41,15 +39,12 @@ import org.sonar.plugins.communitydelphi.api.type.TypeSpecializationContext;
  *     Generics</a>
  */
 public abstract class GenerifiableTypeImpl extends TypeImpl {
-  private final Map<TypeSpecializationContext, GenerifiableTypeImpl> cache;
-
-  protected GenerifiableTypeImpl() {
-    cache = new HashMap<>();
-  }
-
   /**
    * If applicable, creates a new type with any relevant generic types specialized.
    *
+   * <p>Specializations are registered in the {@link TypeSpecializationRegistry}, so specializing
+   * the same type with the same context returns the same instance while it is in use.
+   *
    * @param context information about the type arguments and parameters
    * @return specialized type
    */
@@ -58,19 +53,7 @@ public abstract class GenerifiableTypeImpl extends TypeImpl {
     if (context.hasSignatureMismatch() || !canBeSpecialized(context)) {
       return this;
     }
-
-    GenerifiableTypeImpl result = cache.get(context);
-    if (result == null) {
-      result = this.doSpecialization(context);
-      if (result.is(this)) {
-        result = this;
-      } else {
-        cache.put(context, result);
-        result.doAfterSpecialization(context);
-      }
-    }
-
-    return result;
+    return TypeSpecializationRegistry.getInstance().specialize(this, context);
   }
 
   /**
@@ -0,0 +1,159 @@
+/*
+ * Sonar Delphi Plugin
+ * Copyright (C) 2026 Integrated Application Development
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02
+ */
+package au.com.integradev.delphi.type.generic;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.sonar.plugins.communitydelphi.api.type.TypeSpecializationContext;
+
+/**
+ * Central, thread-safe registry of generic type specializations, keyed by the identity of the
+ * generic type and the specialization context.
+ *
+ * <p>Specializations are weakly referenced. An entry is only cleared once nothing else refers to
+ * the specialization, so specializing the same type again returns the same instance for as long as
+ * it is in use.
+ *
+ * <p>No lock is held while a specialization is built. Specializing one type can specialize others,
+ * which can in turn refer back to a specialization that is still being built. Those in-progress
+ * specializations are only visible to the building thread, and are published together once the
+ * outermost specialization is complete. If two threads build the same specialization at once, the
+ * first one to be published wins.
+ */
+public final class TypeSpecializationRegistry {
+  private static final TypeSpecializationRegistry INSTANCE = new TypeSpecializationRegistry();
+
+  private final Cache<Key, GenerifiableTypeImpl> specializations =
+      CacheBuilder.newBuilder().weakValues().build();
+  private final ThreadLocal<PendingSpecializations> pending =
+      ThreadLocal.withInitial(PendingSpecializations::new);
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+
+  TypeSpecializationRegistry() {
+    // package-private constructor
+  }
+
+  public static TypeSpecializationRegistry getInstance() {
+    return INSTANCE;
+  }
+
+  GenerifiableTypeImpl specialize(
+      GenerifiableTypeImpl genericType, TypeSpecializationContext context) {
+    Key key = new Key(genericType, context);
+
+    PendingSpecializations building = pending.get();
+    GenerifiableTypeImpl result = building.specializations.get(key);
+    if (result != null) {
+      return result;
+    }
+
+    result = specializations.getIfPresent(key);
+    if (result != null) {
+      hitCount.incrementAndGet();
+      return result;
+    }
+
+    missCount.incrementAndGet();
+
+    ++building.depth;
+    try {
+      result = genericType.doSpecialization(context);
+      if (result.is(genericType)) {
+        result = genericType;
+      } else {
+        building.specializations.put(key, result);
+        result.doAfterSpecialization(context);
+      }
+      if (building.depth == 1) {
+        result = publish(building.specializations, key, result);
+      }
+      return result;
+    } finally {
+      if (--building.depth == 0) {
+        building.specializations.clear();
+      }
+    }
+  }
+
+  private GenerifiableTypeImpl publish(
+      Map<Key, GenerifiableTypeImpl> completed, Key outermost, GenerifiableTypeImpl result) {
+    Map<Key, GenerifiableTypeImpl> registered = specializations.asMap();
+    for (Map.Entry<Key, GenerifiableTypeImpl> entry : completed.entrySet()) {
+      GenerifiableTypeImpl existing = registered.putIfAbsent(entry.getKey(), entry.getValue());
+      if (existing != null && entry.getKey().equals(outermost)) {
+        result = existing;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the number of registered specializations, including ones that have been reclaimed by
+   * the garbage collector but not yet cleaned up.
+   *
+   * @return the number of registered specializations
+   */
+  public long size() {
+    return specializations.size();
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  private static final class PendingSpecializations {
+    private final Map<Key, GenerifiableTypeImpl> specializations = new LinkedHashMap<>();
+    private int depth;
+  }
+
+  private static final class Key {
+    private final GenerifiableTypeImpl genericType;
+    private final TypeSpecializationContext context;
+
+    private Key(GenerifiableTypeImpl genericType, TypeSpecializationContext context) {
+      this.genericType = genericType;
+      this.context = context;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      Key other = (Key) o;
+      return genericType == other.genericType && context.equals(other.context);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * System.identityHashCode(genericType) + context.hashCode();
+    }
+  }
+}
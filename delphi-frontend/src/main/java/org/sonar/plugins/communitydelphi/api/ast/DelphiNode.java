@@ -36,6 +36,13 @@ public interface DelphiNode extends Node {
 
   List<DelphiNode> getChildren();
 
+  /**
+   * Returns the number of children of this node, without materializing the child list
+   *
+   * @return the number of children
+   */
+  int getChildCount();
+
   DelphiNode getChild(int index);
 
   DelphiNode getNthParent(int n);
@@ -46,7 +46,7 @@ public final class ExpressionNodeUtils {
   public static boolean isBareInherited(ExpressionNode node) {
     return node instanceof PrimaryExpressionNode
         && node.getChild(0).getTokenType() == DelphiTokenType.INHERITED
-        && (node.getChildren().size() == 1 || !(node.getChild(1) instanceof NameReferenceNode));
+        && (node.getChildCount() == 1 || !(node.getChild(1) instanceof NameReferenceNode));
   }
 
   @Nullable
@@ -149,7 +149,7 @@ public final class ExpressionNodeUtils {
 
   private static <T extends DelphiNode> T unwrap(ExpressionNode node, Class<T> unwrapClass) {
     node = node.skipParentheses();
-    if (node instanceof PrimaryExpressionNode && node.getChildren().size() == 1) {
+    if (node instanceof PrimaryExpressionNode && node.getChildCount() == 1) {
       DelphiNode child = node.getChild(0);
       if (unwrapClass.isAssignableFrom(child.getClass())) {
         return unwrapClass.cast(node.getChildren().get(0));
@@ -0,0 +1,53 @@
+/*
+ * Sonar Delphi Plugin
+ * Copyright (C) 2026 Integrated Application Development
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02
+ */
+package org.sonar.plugins.communitydelphi.api.check;
+
+import java.util.Set;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiAst;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
+
+/**
+ * A check that subscribes to specific node types instead of traversing the whole AST itself.
+ *
+ * <p>All subscription checks on a file share a single traversal of the AST. Each node is
+ * dispatched via {@link DelphiNode#accept} to the checks subscribed to its type, so the typed
+ * {@code visit} methods are overridden just like in a regular {@link DelphiCheck}. Calling {@code
+ * super.visit} won't descend into the node's children, since the traversal is driven by the
+ * dispatcher.
+ *
+ * <p>Checks that need to control the traversal (for example, to skip a subtree) should extend
+ * {@link DelphiCheck} instead.
+ */
+public abstract class DelphiSubscriptionCheck extends DelphiCheck {
+  /**
+   * Returns the node types that this check subscribes to.
+   *
+   * <p>Every node that is an instance of one of these types will be dispatched to the check. To
+   * visit tokens, subscribe to {@link DelphiAst}.
+   *
+   * @return the node types that this check subscribes to
+   */
+  public abstract Set<Class<? extends DelphiNode>> nodesToVisit();
+
+  @Override
+  public DelphiCheckContext visit(DelphiNode node, DelphiCheckContext context) {
+    // Children are visited by the dispatcher
+    return context;
+  }
+}
@@ -30,9 +30,14 @@ import au.com.integradev.delphi.antlr.ast.visitors.DelphiParserVisitor;
 import au.com.integradev.delphi.file.DelphiFile;
 import au.com.integradev.delphi.utils.DelphiUtils;
 import au.com.integradev.delphi.utils.files.DelphiFileUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.sonar.plugins.communitydelphi.api.ast.DelphiAst;
 import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
+import org.sonar.plugins.communitydelphi.api.ast.RoutineImplementationNode;
+import org.sonar.plugins.communitydelphi.api.token.DelphiToken;
 
 class DelphiAstTest {
   private static final String TEST_FILE = "/au/com/integradev/delphi/grammar/GrammarTest.pas";
@@ -51,6 +56,49 @@ class DelphiAstTest {
     checkTypes(ast);
   }
 
+  @Test
+  void testFindDescendantsOfTypeShouldMatchTreeWalk() {
+    List<RoutineImplementationNode> expected = new ArrayList<>();
+    collectRoutines(ast, expected);
+
+    assertThat(expected).isNotEmpty();
+    assertThat(ast.findDescendantsOfType(RoutineImplementationNode.class))
+        .containsExactlyElementsOf(expected)
+        .isNotSameAs(ast.findDescendantsOfType(RoutineImplementationNode.class));
+  }
+
+  @Test
+  void testDescendantsShouldReferenceOwningAst() {
+    for (RoutineImplementationNode routine :
+        ast.findDescendantsOfType(RoutineImplementationNode.class)) {
+      assertThat(routine.getAst()).isSameAs(ast);
+      assertThat(routine.getChildCount()).isEqualTo(routine.getChildren().size());
+    }
+  }
+
+  @Test
+  void testNodeCommentsShouldBeBetweenFirstAndLastToken() {
+    for (DelphiNode node : ast.findDescendantsOfType(DelphiNode.class)) {
+      int first = node.getFirstToken().getIndex();
+      int last = node.getLastToken().getIndex();
+      List<DelphiToken> expected =
+          ast.getComments().stream()
+              .filter(comment -> comment.getIndex() > first && comment.getIndex() < last)
+              .collect(Collectors.toList());
+
+      assertThat(node.getComments()).containsExactlyElementsOf(expected);
+    }
+  }
+
+  private static void collectRoutines(DelphiNode node, List<RoutineImplementationNode> result) {
+    for (DelphiNode child : node.getChildren()) {
+      if (child instanceof RoutineImplementationNode) {
+        result.add((RoutineImplementationNode) child);
+      }
+      collectRoutines(child, result);
+    }
+  }
+
   private static void checkTypes(DelphiNode node) {
     assertThat(node).isInstanceOf(DelphiNode.class);
     for (DelphiNode child : node.getChildren()) {
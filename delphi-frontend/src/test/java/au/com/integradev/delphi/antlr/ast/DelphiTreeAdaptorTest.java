@@ -132,6 +132,21 @@ class DelphiTreeAdaptorTest {
     assertThat(adaptor.getParent(child)).isEqualTo(parent);
   }
 
+  @Test
+  void testSetTokenBoundariesShouldReuseNodeToken() {
+    CommonToken token = new CommonToken(DelphiLexer.TkIdentifier, "Foo");
+    CommonToken stopToken = new CommonToken(DelphiLexer.TkIdentifier, "Bar");
+    DelphiNode node = (DelphiNode) adaptor.create(token);
+
+    adaptor.setTokenBoundaries(node, token, token);
+    assertThat(node.getFirstToken()).isSameAs(node.getToken());
+    assertThat(node.getLastToken()).isSameAs(node.getToken());
+
+    adaptor.setTokenBoundaries(node, token, stopToken);
+    assertThat(node.getFirstToken()).isSameAs(node.getToken());
+    assertThat(node.getLastToken().getImage()).isEqualTo("Bar");
+  }
+
   @Test
   void testErrorNode() {
     assertThat(adaptor.errorNode(null, null, null, null)).isNull();
@@ -0,0 +1,131 @@
+/*
+ * Sonar Delphi Plugin
+ * Copyright (C) 2019 Integrated Application Development
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02
+ */
+package au.com.integradev.delphi.antlr.ast.visitors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import au.com.integradev.delphi.antlr.ast.node.RoutineImplementationNodeImpl;
+import au.com.integradev.delphi.antlr.ast.visitors.MetricsVisitor.Data;
+import au.com.integradev.delphi.antlr.ast.visitors.MetricsVisitor.RoutineMetrics;
+import au.com.integradev.delphi.file.DelphiFile;
+import au.com.integradev.delphi.utils.files.DelphiFileUtils;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiAst;
+import org.sonar.plugins.communitydelphi.api.ast.RoutineImplementationNode;
+
+class MetricsVisitorTest {
+  private static final String ROUTINES =
+      "function Foo: Integer;\n"
+          + "  procedure Bar;\n"
+          + "  begin\n"
+          + "    while A and B do begin\n"
+          + "      if C then Exit;\n"
+          + "    end;\n"
+          + "  end;\n"
+          + "begin\n"
+          + "  if A or B and C then begin\n"
+          + "    try\n"
+          + "      for I := 0 to 10 do Bar;\n"
+          + "    except\n"
+          + "      on E: Exception do begin\n"
+          + "        if E = nil then;\n"
+          + "      end;\n"
+          + "    else\n"
+          + "      if D then;\n"
+          + "    end;\n"
+          + "  end\n"
+          + "  else if B then begin\n"
+          + "    case X of\n"
+          + "      1: Proc := procedure begin repeat until A or B; end;\n"
+          + "    end;\n"
+          + "  end\n"
+          + "  else begin\n"
+          + "    Result := 42;\n"
+          + "  end;\n"
+          + "end;\n";
+
+  @TempDir Path tempDir;
+
+  @Test
+  void testComplexityMatchesStandaloneVisitors() {
+    DelphiAst ast = parse(ROUTINES);
+    Data data = new MetricsVisitor().visit(ast, new Data());
+
+    assertThat(data.getComplexity())
+        .isEqualTo(
+            new CyclomaticComplexityVisitor()
+                .visit(ast, new CyclomaticComplexityVisitor.Data())
+                .getComplexity());
+    assertThat(data.getCognitiveComplexity())
+        .isEqualTo(
+            new CognitiveComplexityVisitor()
+                .visit(ast, new CognitiveComplexityVisitor.Data())
+                .getComplexity());
+  }
+
+  @Test
+  void testRoutineMetricsExcludeSubProcedures() {
+    DelphiAst ast = parse(ROUTINES);
+    Data data = new MetricsVisitor().visit(ast, new Data());
+
+    List<RoutineImplementationNode> routines =
+        ast.findDescendantsOfType(RoutineImplementationNode.class);
+    assertThat(routines).hasSize(2);
+
+    RoutineMetrics foo = ((RoutineImplementationNodeImpl) routines.get(0)).getMetrics();
+    RoutineMetrics bar = ((RoutineImplementationNodeImpl) routines.get(1)).getMetrics();
+
+    assertThat(bar.getComplexity()).isEqualTo(4);
+    assertThat(bar.getCognitiveComplexity()).isEqualTo(4);
+    assertThat(foo.getComplexity() + bar.getComplexity()).isEqualTo(data.getComplexity());
+    assertThat(foo.getCognitiveComplexity() + bar.getCognitiveComplexity())
+        .isEqualTo(data.getCognitiveComplexity());
+  }
+
+  @Test
+  void testRoutineMetricsAreComputedOnDemand() {
+    DelphiAst ast = parse(ROUTINES);
+    var routine =
+        (RoutineImplementationNodeImpl)
+            ast.getFirstDescendantOfType(RoutineImplementationNode.class);
+    RoutineMetrics metrics = routine.getMetrics();
+
+    new MetricsVisitor().visit(ast, new Data());
+    RoutineMetrics cached = routine.getMetrics();
+
+    assertThat(cached.getComplexity()).isEqualTo(metrics.getComplexity());
+    assertThat(cached.getCognitiveComplexity()).isEqualTo(metrics.getCognitiveComplexity());
+  }
+
+  private DelphiAst parse(String function) {
+    Path path = tempDir.resolve("SourceFile.pas");
+    try {
+      Files.writeString(path, "unit SourceFile;\ninterface\nimplementation\n" + function + "end.");
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return DelphiFile.from(path.toFile(), DelphiFileUtils.mockConfig()).getAst();
+  }
+}
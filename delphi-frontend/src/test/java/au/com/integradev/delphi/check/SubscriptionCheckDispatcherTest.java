@@ -0,0 +1,185 @@
+/*
+ * Sonar Delphi Plugin
+ * Copyright (C) 2026 Integrated Application Development
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02
+ */
+package au.com.integradev.delphi.check;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import au.com.integradev.delphi.utils.files.DelphiFileUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.sonar.plugins.communitydelphi.api.ast.CompoundStatementNode;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiAst;
+import org.sonar.plugins.communitydelphi.api.ast.DelphiNode;
+import org.sonar.plugins.communitydelphi.api.ast.RoutineImplementationNode;
+import org.sonar.plugins.communitydelphi.api.ast.RoutineNode;
+import org.sonar.plugins.communitydelphi.api.check.DelphiCheck;
+import org.sonar.plugins.communitydelphi.api.check.DelphiCheckContext;
+import org.sonar.plugins.communitydelphi.api.check.DelphiSubscriptionCheck;
+import org.sonar.plugins.communitydelphi.api.token.DelphiToken;
+
+class SubscriptionCheckDispatcherTest {
+  private static final DelphiAst AST =
+      DelphiFileUtils.parse(
+              "unit Test;",
+              "interface",
+              "implementation",
+              "procedure Foo;",
+              "  procedure Bar;",
+              "  begin",
+              "  end;",
+              "begin",
+              "end;",
+              "procedure Baz;",
+              "begin",
+              "end;",
+              "end.")
+          .getAst();
+
+  private final List<DelphiCheck> failedChecks = new ArrayList<>();
+
+  @Test
+  void testNodesShouldBeDispatchedToSubscribedChecks() {
+    RoutineCheck routineCheck = new RoutineCheck();
+    CompoundStatementCheck compoundStatementCheck = new CompoundStatementCheck();
+
+    SubscriptionCheckDispatcher dispatcher = createDispatcher();
+    dispatcher.add(routineCheck, mock(DelphiCheckContext.class));
+    dispatcher.add(compoundStatementCheck, mock(DelphiCheckContext.class));
+    dispatcher.run(AST);
+
+    assertThat(routineCheck.routines).containsExactly("Foo", "Bar", "Baz");
+    assertThat(routineCheck.started).isTrue();
+    assertThat(routineCheck.ended).isTrue();
+    assertThat(compoundStatementCheck.statements)
+        .isEqualTo(AST.findDescendantsOfType(CompoundStatementNode.class).size());
+    assertThat(failedChecks).isEmpty();
+  }
+
+  @Test
+  void testSubscribingToAstShouldVisitTokens() {
+    TokenCheck tokenCheck = new TokenCheck();
+
+    SubscriptionCheckDispatcher dispatcher = createDispatcher();
+    dispatcher.add(tokenCheck, mock(DelphiCheckContext.class));
+    dispatcher.run(AST);
+
+    assertThat(tokenCheck.tokens).isEqualTo(AST.getDelphiFile().getTokens().size());
+  }
+
+  @Test
+  void testFailedCheckShouldBeSkippedWithoutAffectingOtherChecks() {
+    BrokenCheck brokenCheck = new BrokenCheck();
+    RoutineCheck routineCheck = new RoutineCheck();
+
+    SubscriptionCheckDispatcher dispatcher = createDispatcher();
+    dispatcher.add(brokenCheck, mock(DelphiCheckContext.class));
+    dispatcher.add(routineCheck, mock(DelphiCheckContext.class));
+    dispatcher.run(AST);
+
+    assertThat(brokenCheck.visits).isEqualTo(1);
+    assertThat(brokenCheck.ended).isFalse();
+    assertThat(failedChecks).containsExactly(brokenCheck);
+    assertThat(routineCheck.routines).containsExactly("Foo", "Bar", "Baz");
+    assertThat(routineCheck.ended).isTrue();
+  }
+
+  private SubscriptionCheckDispatcher createDispatcher() {
+    return new SubscriptionCheckDispatcher((check, context, e) -> failedChecks.add(check));
+  }
+
+  private static class RoutineCheck extends DelphiSubscriptionCheck {
+    private final List<String> routines = new ArrayList<>();
+    private boolean started;
+    private boolean ended;
+
+    @Override
+    public Set<Class<? extends DelphiNode>> nodesToVisit() {
+      return Set.of(RoutineImplementationNode.class);
+    }
+
+    @Override
+    public void start(DelphiCheckContext context) {
+      started = true;
+    }
+
+    @Override
+    public DelphiCheckContext visit(RoutineNode node, DelphiCheckContext context) {
+      routines.add(node.simpleName());
+      return super.visit(node, context);
+    }
+
+    @Override
+    public void end(DelphiCheckContext context) {
+      ended = true;
+    }
+  }
+
+  private static class CompoundStatementCheck extends DelphiSubscriptionCheck {
+    private int statements;
+
+    @Override
+    public Set<Class<? extends DelphiNode>> nodesToVisit() {
+      return Set.of(CompoundStatementNode.class);
+    }
+
+    @Override
+    public DelphiCheckContext visit(CompoundStatementNode node, DelphiCheckContext context) {
+      ++statements;
+      return super.visit(node, context);
+    }
+  }
+
+  private static class TokenCheck extends DelphiSubscriptionCheck {
+    private int tokens;
+
+    @Override
+    public Set<Class<? extends DelphiNode>> nodesToVisit() {
+      return Set.of(DelphiAst.class);
+    }
+
+    @Override
+    public void visitToken(DelphiToken token, DelphiCheckContext context) {
+      ++tokens;
+    }
+  }
+
+  private static class BrokenCheck extends DelphiSubscriptionCheck {
+    private int visits;
+    private boolean ended;
+
+    @Override
+    public Set<Class<? extends DelphiNode>> nodesToVisit() {
+      return Set.of(RoutineImplementationNode.class);
+    }
+
+    @Override
+    public DelphiCheckContext visit(RoutineImplementationNode node, DelphiCheckContext context) {
+      ++visits;
+      throw new IllegalStateException("Test");
+    }
+
+    @Override
+    public void end(DelphiCheckContext context) {
+      ended = true;
+    }
+  }
+}
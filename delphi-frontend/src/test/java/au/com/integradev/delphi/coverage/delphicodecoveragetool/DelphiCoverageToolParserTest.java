@@ -38,6 +38,7 @@ import au.com.integradev.delphi.utils.DelphiUtils;
 import java.io.File;
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -127,6 +128,20 @@ class DelphiCoverageToolParserTest {
     assertThat(context.lineHits(GLOBALS_FILE_KEY, 23)).isEqualTo((Integer) 1);
   }
 
+  @Test
+  void testLineHitsFromReportsParsedTogetherAreMerged() {
+    parser.parse(
+        context,
+        List.of(
+            DelphiUtils.getResource(NORMAL_COVERAGE),
+            DelphiUtils.getResource(NORMAL_COVERAGE_PART_2)));
+
+    assertThat(context.lineHits(GLOBALS_FILE_KEY, 16)).isEqualTo((Integer) 1);
+    assertThat(context.lineHits(GLOBALS_FILE_KEY, 17)).isEqualTo((Integer) 1);
+    assertThat(context.lineHits(GLOBALS_FILE_KEY, 23)).isEqualTo((Integer) 1);
+    assertThat(context.lineHits(MAIN_WINDOW_FILE_KEY, 31)).isEqualTo((Integer) 1);
+  }
+
   @Test
   void testMismatchedCasingAllowed() {
     parser.parse(context, DelphiUtils.getResource(MISMATCHED_CASING_COVERAGE));
@@ -176,6 +191,7 @@ class DelphiCoverageToolParserTest {
     parser.parse(context, DelphiUtils.getResource(INVALID_LINE_HITS));
 
     assertThat(context.lineHits(GLOBALS_FILE_KEY, 16)).isEqualTo((Integer) 1);
+    assertThat(context.lineHits(GLOBALS_FILE_KEY, 17)).isNull();
     assertThat(context.lineHits(GLOBALS_FILE_KEY, 27)).isNull();
 
     assertThat(context.lineHits(MAIN_WINDOW_FILE_KEY, 52)).isEqualTo((Integer) 2);
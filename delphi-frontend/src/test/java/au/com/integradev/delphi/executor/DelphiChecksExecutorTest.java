@@ -83,6 +83,23 @@ class DelphiChecksExecutorTest {
     verify(allCheck, times(1)).visit(eq(testFile.getAst()), any());
   }
 
+  @Test
+  void testUnchangedFilesAreSkipped() {
+    Executor.Context context = mock();
+
+    DelphiCheck check = mockDelphiCheck(RuleScope.ALL);
+
+    DelphiInputFile changedFile = mockDelphiFile(InputFile.Type.MAIN);
+    DelphiInputFile unchangedFile = mockDelphiFile(InputFile.Type.MAIN);
+    when(context.isUnchanged(unchangedFile)).thenReturn(true);
+
+    executor.execute(context, changedFile);
+    executor.execute(context, unchangedFile);
+
+    verify(check, times(1)).visit(eq(changedFile.getAst()), any());
+    verify(check, never()).visit(eq(unchangedFile.getAst()), any());
+  }
+
   private DelphiCheck mockDelphiCheck(RuleScope scope) {
     DelphiCheck check = mock();
     when(checkRegistrar.getChecks(scope)).thenReturn(Set.of(check));
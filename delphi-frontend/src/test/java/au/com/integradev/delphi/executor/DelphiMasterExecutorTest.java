@@ -18,8 +18,10 @@
  */
 package au.com.integradev.delphi.executor;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
@@ -36,6 +38,7 @@ import au.com.integradev.delphi.file.DelphiFile.DelphiInputFile;
 import au.com.integradev.delphi.file.DelphiFileConfig;
 import au.com.integradev.delphi.preprocessor.DelphiPreprocessorFactory;
 import au.com.integradev.delphi.preprocessor.search.SearchPath;
+import au.com.integradev.delphi.symbol.SymbolTable;
 import au.com.integradev.delphi.type.factory.TypeFactoryImpl;
 import java.io.File;
 import java.io.IOException;
@@ -44,6 +47,10 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -51,6 +58,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 import org.sonar.api.batch.fs.InputFile;
 import org.sonar.api.batch.fs.internal.TestInputFileBuilder;
+import org.sonar.api.batch.sensor.SensorContext;
 import org.sonar.plugins.communitydelphi.api.FatalAnalysisError;
 import org.sonar.plugins.communitydelphi.api.type.TypeFactory;
 
@@ -174,6 +182,58 @@ class DelphiMasterExecutorTest {
     verify(executor, never()).execute(any(), any());
   }
 
+  @Test
+  void testNonThreadSafeExecutorsShouldRunExclusively() {
+    ExecutorContext context =
+        new ExecutorContext(mock(SensorContext.class), mock(SymbolTable.class), true);
+    Executor threadSafeExecutor = mock(Executor.class);
+    Executor executor = mock(Executor.class);
+    when(threadSafeExecutor.isThreadSafe()).thenReturn(true);
+
+    AtomicBoolean threadSafeExecutorHeldLock = new AtomicBoolean(true);
+    AtomicBoolean executorHeldLock = new AtomicBoolean(false);
+    doAnswer(invocation -> holdLock(threadSafeExecutorHeldLock, context))
+        .when(threadSafeExecutor)
+        .execute(context, testInputFile);
+    doAnswer(invocation -> holdLock(executorHeldLock, context))
+        .when(executor)
+        .execute(context, testInputFile);
+
+    new DelphiMasterExecutor(threadSafeExecutor, executor).execute(context, testInputFile);
+
+    assertThat(threadSafeExecutorHeldLock).isFalse();
+    assertThat(executorHeldLock).isTrue();
+  }
+
+  @Test
+  void testConcurrentExecutionShouldRunEachExecutorOncePerFile() throws InterruptedException {
+    ExecutorContext context =
+        new ExecutorContext(mock(SensorContext.class), mock(SymbolTable.class), true);
+    Executor dependency = mock(DelphiSymbolTableExecutor.class);
+    Executor executor = mock(DelphiChecksExecutor.class);
+    when(executor.dependencies()).thenReturn(Set.of(dependency.getClass()));
+
+    DelphiMasterExecutor masterExecutor = new DelphiMasterExecutor(executor, dependency);
+
+    ExecutorService executorService = Executors.newFixedThreadPool(4);
+    try {
+      for (int i = 0; i < 100; ++i) {
+        executorService.execute(() -> masterExecutor.execute(context, testInputFile));
+      }
+    } finally {
+      executorService.shutdown();
+    }
+    assertThat(executorService.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+    verify(dependency, times(100)).execute(context, testInputFile);
+    verify(executor, times(100)).execute(context, testInputFile);
+  }
+
+  private static Object holdLock(AtomicBoolean result, ExecutorContext context) {
+    result.set(Thread.holdsLock(context.lock()));
+    return null;
+  }
+
   private static DelphiFileConfig mockConfig() {
     TypeFactory typeFactory =
         new TypeFactoryImpl(
@@ -49,6 +49,7 @@ import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Objects;
+import java.util.Set;
 import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -58,6 +59,7 @@ import org.sonar.api.batch.fs.internal.TestInputFileBuilder;
 import org.sonar.api.batch.sensor.SensorContext;
 import org.sonar.api.batch.sensor.cpd.NewCpdTokens;
 import org.sonar.api.batch.sensor.highlighting.NewHighlighting;
+import org.sonar.api.issue.NoSonarFilter;
 import org.sonar.plugins.communitydelphi.api.type.TypeFactory;
 
 class DelphiTokenExecutorTest {
@@ -68,10 +70,10 @@ class DelphiTokenExecutorTest {
   private static final String LITERALS_FILE = ROOT_DIR_PATH + "Literals.pas";
   private static final String MIXED_CASE_FILE = ROOT_DIR_PATH + "MixedCase.pas";
   private static final String ASM_FILE = ROOT_DIR_PATH + "AsmHighlighting.pas";
+  private static final String NO_SONAR_FILE = ROOT_DIR_PATH + "NoSonar.pas";
 
-  private DelphiMasterExecutor executor;
-  private DelphiHighlightExecutor highlightExecutor;
-  private DelphiCpdExecutor cpdExecutor;
+  private DelphiTokenExecutor executor;
+  private NoSonarFilter noSonarFilter;
 
   private ExecutorContext context;
   private NewCpdTokens cpdTokens;
@@ -91,9 +93,13 @@ class DelphiTokenExecutorTest {
 
     context = new ExecutorContext(sensorContext, mock(SymbolTable.class));
 
-    highlightExecutor = new DelphiHighlightExecutor();
-    cpdExecutor = new DelphiCpdExecutor();
-    executor = new DelphiMasterExecutor(highlightExecutor, cpdExecutor);
+    noSonarFilter = mock(NoSonarFilter.class);
+
+    executor =
+        new DelphiTokenExecutor(
+            new DelphiHighlightExecutor(),
+            new DelphiCpdExecutor(),
+            new DelphiNoSonarExecutor(noSonarFilter));
   }
 
   @Test
@@ -110,6 +116,26 @@ class DelphiTokenExecutorTest {
     verify(highlighting, never()).save();
   }
 
+  @Test
+  void testResultsSavedForOtherConsumersOnTokenizationFailure() {
+    when(cpdTokens.addToken(anyInt(), anyInt(), anyInt(), anyInt(), any()))
+        .thenThrow(IllegalStateException.class);
+
+    execute(makeDelphiFile(SIMPLE_FILE));
+
+    verify(cpdTokens, never()).save();
+    verify(highlighting).save();
+    highlightCount(40);
+  }
+
+  @Test
+  void testNoSonarFile() {
+    DelphiInputFile delphiFile = makeDelphiFile(NO_SONAR_FILE);
+    execute(delphiFile);
+
+    verify(noSonarFilter).noSonarInFile(delphiFile.getInputFile(), Set.of(7, 9, 10));
+  }
+
   @Test
   void testSimpleFile() {
     execute(makeDelphiFile(SIMPLE_FILE));
@@ -248,7 +274,5 @@ class DelphiTokenExecutorTest {
 
   private void execute(DelphiInputFile delphiFile) {
     executor.execute(context, delphiFile);
-    cpdExecutor.complete();
-    highlightExecutor.complete();
   }
 }
@@ -77,6 +77,59 @@ class DelphiFileTest {
     assertThat(delphiFile.getSourceCodeFileLines().get(4)).isEqualTo("// €†šŸÀÿ");
   }
 
+  @Test
+  void testUnboundFileShouldBeReusedWhenEncodingMatches() {
+    File file = DelphiUtils.getResource("/au/com/integradev/delphi/file/Utf8.pas");
+
+    InputFile inputFile =
+        new TestInputFileBuilder("moduleKey", BASE_DIR, file)
+            .setLanguage(Delphi.KEY)
+            .setCharset(StandardCharsets.UTF_8)
+            .build();
+
+    DelphiFileConfig config =
+        DelphiFile.createConfig(
+            StandardCharsets.UTF_8.name(),
+            new DelphiPreprocessorFactory(
+                DelphiProperties.COMPILER_VERSION_DEFAULT, Platform.WINDOWS),
+            TypeFactoryUtils.defaultFactory(),
+            SearchPath.create(Collections.emptyList()),
+            Collections.emptySet());
+
+    DelphiInputFile parsedFile = DelphiInputFile.unbound(file, config);
+    DelphiInputFile delphiFile = DelphiInputFile.from(inputFile, parsedFile, config);
+
+    assertThat(delphiFile).isSameAs(parsedFile);
+    assertThat(delphiFile.getInputFile()).isSameAs(inputFile);
+    assertThat(DelphiInputFile.from(inputFile, parsedFile, config)).isNotSameAs(parsedFile);
+  }
+
+  @Test
+  void testUnboundFileShouldNotBeReusedWhenEncodingDiffers() {
+    File file = DelphiUtils.getResource("/au/com/integradev/delphi/file/Windows1252.pas");
+
+    InputFile inputFile =
+        new TestInputFileBuilder("moduleKey", BASE_DIR, file)
+            .setLanguage(Delphi.KEY)
+            .setCharset(Charset.forName("windows-1252"))
+            .build();
+
+    DelphiFileConfig config =
+        DelphiFile.createConfig(
+            StandardCharsets.UTF_8.name(),
+            new DelphiPreprocessorFactory(
+                DelphiProperties.COMPILER_VERSION_DEFAULT, Platform.WINDOWS),
+            TypeFactoryUtils.defaultFactory(),
+            SearchPath.create(Collections.emptyList()),
+            Collections.emptySet());
+
+    DelphiInputFile parsedFile = DelphiInputFile.unbound(file, config);
+    DelphiInputFile delphiFile = DelphiInputFile.from(inputFile, parsedFile, config);
+
+    assertThat(delphiFile).isNotSameAs(parsedFile);
+    assertThat(delphiFile.getSourceCodeFileLines().get(4)).isEqualTo("// €†šŸÀÿ");
+  }
+
   @Test
   void testByteOrderMarkShouldOverrideProvidedEncoding() {
     File file = DelphiUtils.getResource("/au/com/integradev/delphi/file/Utf16.pas");
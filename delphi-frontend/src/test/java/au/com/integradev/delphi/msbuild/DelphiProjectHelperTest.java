@@ -306,6 +306,37 @@ class DelphiProjectHelperTest {
         .isEqualTo(DelphiProperties.COMPILER_VERSION_DEFAULT);
   }
 
+  @Test
+  void testThreads() {
+    when(settings.getInt(DelphiProperties.THREADS_KEY)).thenReturn(Optional.of(4));
+
+    DelphiProjectHelper delphiProjectHelper =
+        new DelphiProjectHelper(settings, fs, environmentVariableProvider);
+
+    assertThat(delphiProjectHelper.getThreads()).isEqualTo(4);
+  }
+
+  @Test
+  void testDefaultThreads() {
+    when(settings.getInt(DelphiProperties.THREADS_KEY)).thenReturn(Optional.empty());
+
+    DelphiProjectHelper delphiProjectHelper =
+        new DelphiProjectHelper(settings, fs, environmentVariableProvider);
+
+    assertThat(delphiProjectHelper.getThreads()).isEqualTo(DelphiProperties.THREADS_DEFAULT);
+  }
+
+  @Test
+  void testZeroThreadsShouldUseAvailableProcessors() {
+    when(settings.getInt(DelphiProperties.THREADS_KEY)).thenReturn(Optional.of(0));
+
+    DelphiProjectHelper delphiProjectHelper =
+        new DelphiProjectHelper(settings, fs, environmentVariableProvider);
+
+    assertThat(delphiProjectHelper.getThreads())
+        .isEqualTo(Runtime.getRuntime().availableProcessors());
+  }
+
   @Test
   void testInvalidCompilerVersion() {
     when(settings.get(DelphiProperties.COMPILER_VERSION_KEY)).thenReturn(Optional.of("INVALID"));
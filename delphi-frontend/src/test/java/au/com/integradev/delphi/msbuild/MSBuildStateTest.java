@@ -62,4 +62,20 @@ class MSBuildStateTest {
     state.setProperty("MSBuildThisFileFullPath", "bonk");
     assertThat(state.getProperty("MSBuildThisFileFullPath")).isEqualTo("bonk");
   }
+
+  @Test
+  void testAbsorbStateRecordsImportedFiles() {
+    Path project = tempDir.resolve("Project.dproj");
+    Path optionSet = tempDir.resolve("Options.optset");
+    Path nested = tempDir.resolve("Nested.props");
+
+    var state = new MSBuildState(project, project, environmentVariableProvider);
+    var optionSetState = state.deriveState(optionSet);
+    var nestedState = optionSetState.deriveState(nested);
+
+    optionSetState.absorbState(nestedState);
+    state.absorbState(optionSetState);
+
+    assertThat(state.getImportedFiles()).containsExactly(optionSet, nested);
+  }
 }
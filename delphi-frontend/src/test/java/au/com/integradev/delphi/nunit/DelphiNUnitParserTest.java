@@ -48,6 +48,18 @@ class DelphiNUnitParserTest {
     assertThat(results.getTestsRun()).isEqualTo(20);
   }
 
+  @Test
+  void testCollectInParallelShouldMatchSequentialResults() {
+    File reportsDir = DelphiUtils.getResource(getPath("v3"));
+    ResultsAggregator sequential = DelphiNUnitParser.collect(reportsDir);
+    ResultsAggregator parallel = DelphiNUnitParser.collect(reportsDir, 4);
+
+    assertThat(parallel.getTestsRun()).isEqualTo(sequential.getTestsRun());
+    assertThat(parallel.getSkipped()).isEqualTo(sequential.getSkipped());
+    assertThat(parallel.getFailures()).isEqualTo(sequential.getFailures());
+    assertThat(parallel.getDurationSeconds()).isEqualTo(sequential.getDurationSeconds());
+  }
+
   @ParameterizedTest
   @ValueSource(strings = {"v2", "v3"})
   void testParseReport(String version) {
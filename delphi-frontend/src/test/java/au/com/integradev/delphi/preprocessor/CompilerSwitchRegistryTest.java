@@ -0,0 +1,64 @@
+/*
+ * Sonar Delphi Plugin
+ * Copyright (C) 2026 Integrated Application Development
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02
+ */
+package au.com.integradev.delphi.preprocessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.sonar.plugins.communitydelphi.api.directive.SwitchDirective.SwitchKind;
+
+class CompilerSwitchRegistryTest {
+  @Test
+  void testEmptyRegistryShouldHaveNoActiveSwitches() {
+    var registry = new CompilerSwitchRegistry();
+    assertThat(registry.isActiveSwitch(SwitchKind.BOOLEVAL, 0)).isFalse();
+  }
+
+  @Test
+  void testIsActiveSwitch() {
+    var registry = new CompilerSwitchRegistry();
+
+    registry.addSwitch(SwitchKind.BOOLEVAL, 10, 20);
+    registry.addSwitch(SwitchKind.BOOLEVAL, 40, 50);
+    registry.addSwitch(SwitchKind.BOOLEVAL, 15, 25);
+    registry.addSwitch(SwitchKind.HINTS, 0, 100);
+
+    assertThat(registry.isActiveSwitch(SwitchKind.BOOLEVAL, 9)).isFalse();
+    assertThat(registry.isActiveSwitch(SwitchKind.BOOLEVAL, 10)).isTrue();
+    assertThat(registry.isActiveSwitch(SwitchKind.BOOLEVAL, 22)).isTrue();
+    assertThat(registry.isActiveSwitch(SwitchKind.BOOLEVAL, 25)).isTrue();
+    assertThat(registry.isActiveSwitch(SwitchKind.BOOLEVAL, 26)).isFalse();
+    assertThat(registry.isActiveSwitch(SwitchKind.BOOLEVAL, 40)).isTrue();
+    assertThat(registry.isActiveSwitch(SwitchKind.BOOLEVAL, 50)).isTrue();
+    assertThat(registry.isActiveSwitch(SwitchKind.BOOLEVAL, 51)).isFalse();
+    assertThat(registry.isActiveSwitch(SwitchKind.HINTS, 60)).isTrue();
+    assertThat(registry.isActiveSwitch(SwitchKind.WARNINGS, 60)).isFalse();
+  }
+
+  @Test
+  void testSwitchesAddedAfterQueryShouldBeVisible() {
+    var registry = new CompilerSwitchRegistry();
+
+    registry.addSwitch(SwitchKind.BOOLEVAL, 10, 20);
+    assertThat(registry.isActiveSwitch(SwitchKind.BOOLEVAL, 30)).isFalse();
+
+    registry.addSwitch(SwitchKind.BOOLEVAL, 30, 40);
+    assertThat(registry.isActiveSwitch(SwitchKind.BOOLEVAL, 30)).isTrue();
+  }
+}
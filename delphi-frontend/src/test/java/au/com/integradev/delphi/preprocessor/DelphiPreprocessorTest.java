@@ -20,6 +20,7 @@ package au.com.integradev.delphi.preprocessor;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptySet;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -29,6 +30,7 @@ import au.com.integradev.delphi.antlr.DelphiLexer;
 import au.com.integradev.delphi.antlr.DelphiLexer.LexerException;
 import au.com.integradev.delphi.antlr.DelphiParser;
 import au.com.integradev.delphi.antlr.ast.DelphiTreeAdaptor;
+import au.com.integradev.delphi.antlr.ast.token.DelphiTokenImpl;
 import au.com.integradev.delphi.compiler.Platform;
 import au.com.integradev.delphi.file.DelphiFile;
 import au.com.integradev.delphi.file.DelphiFileConfig;
@@ -37,13 +39,23 @@ import au.com.integradev.delphi.preprocessor.search.SearchPath;
 import au.com.integradev.delphi.utils.DelphiUtils;
 import au.com.integradev.delphi.utils.files.DelphiFileUtils;
 import au.com.integradev.delphi.utils.types.TypeFactoryUtils;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.antlr.runtime.BufferedTokenStream;
+import org.antlr.runtime.Token;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sonar.plugins.communitydelphi.api.directive.SwitchDirective.SwitchKind;
+import org.sonar.plugins.communitydelphi.api.token.DelphiToken;
 import org.sonar.plugins.communitydelphi.api.type.TypeFactory;
 
 class DelphiPreprocessorTest {
@@ -128,6 +140,153 @@ class DelphiPreprocessorTest {
     assertThatCode(() -> execute("PseudoExpressions.pas")).doesNotThrowAnyException();
   }
 
+  @Test
+  void testManyIncludesShouldProduceOrderedTokenIndices(@TempDir Path tempDir)
+      throws IOException {
+    int includeCount = 500;
+
+    Files.writeString(
+        tempDir.resolve("Consts.inc"),
+        "{$IFDEF UNDEFINED}\n" //
+            + "  Skipped = 0;\n"
+            + "{$ENDIF}\n"
+            + "  Included = 1;\n");
+
+    StringBuilder source = new StringBuilder("unit Includes;\ninterface\nconst\n{$HINTS ON}\n");
+    for (int i = 0; i < includeCount; ++i) {
+      source.append("{$I Consts.inc}\n");
+    }
+    source.append("{$HINTS OFF}\n  Last = 2;\nimplementation\nend.\n");
+
+    Path sourceFile = tempDir.resolve("Includes.pas");
+    Files.writeString(sourceFile, source.toString());
+
+    DelphiFileConfig config = DelphiFileUtils.mockConfig();
+    DelphiFileStream fileStream =
+        new DelphiFileStream(sourceFile.toAbsolutePath().toString(), config.getEncoding());
+    DelphiPreprocessor preprocessor =
+        new DelphiPreprocessor(
+            new DelphiLexer(fileStream),
+            config,
+            DelphiProperties.COMPILER_VERSION_DEFAULT,
+            Platform.WINDOWS);
+    preprocessor.process();
+
+    List<Token> tokens = preprocessor.getTokenStream().getTokens();
+    for (int i = 1; i < tokens.size(); ++i) {
+      assertThat(tokens.get(i).getTokenIndex()).isGreaterThan(tokens.get(i - 1).getTokenIndex());
+    }
+
+    assertThat(tokens.stream().map(Token::getText))
+        .filteredOn("Included"::equals)
+        .hasSize(includeCount);
+    assertThat(tokens.stream().map(Token::getText)).doesNotContain("Skipped");
+
+    Token lastIncluded =
+        tokens.stream()
+            .filter(token -> "Included".equals(token.getText()))
+            .reduce((first, second) -> second)
+            .orElseThrow();
+    Token last =
+        tokens.stream().filter(token -> "Last".equals(token.getText())).findFirst().orElseThrow();
+
+    CompilerSwitchRegistry switchRegistry = preprocessor.getCompilerSwitchRegistry();
+    assertThat(switchRegistry.isActiveSwitch(SwitchKind.HINTS, lastIncluded.getTokenIndex()))
+        .isTrue();
+    assertThat(switchRegistry.isActiveSwitch(SwitchKind.HINTS, last.getTokenIndex())).isFalse();
+  }
+
+  @Test
+  void testCachedIncludeFileShouldBeBoundToEachInsertionToken(@TempDir Path tempDir)
+      throws IOException {
+    Files.writeString(tempDir.resolve("Consts.inc"), "  Included = 1;\n");
+
+    Path first = tempDir.resolve("First.pas");
+    Files.writeString(
+        first, "unit First;\ninterface\nconst\n{$I Consts.inc}\nimplementation\nend.");
+    Path second = tempDir.resolve("Second.pas");
+    Files.writeString(
+        second, "unit Second;\ninterface\nconst\n\n\n{$I Consts.inc}\nimplementation\nend.");
+
+    DelphiFileConfig config = DelphiFileUtils.mockConfig();
+    DelphiPreprocessorFactory factory = config.getPreprocessorFactory();
+
+    assertThat(findIncludedToken(preprocess(first, factory, config), "Included").getBeginLine())
+        .isEqualTo(4);
+    assertThat(findIncludedToken(preprocess(second, factory, config), "Included").getBeginLine())
+        .isEqualTo(6);
+  }
+
+  @Test
+  void testCachedIncludeFileShouldBeLexedAgainWhenModified(@TempDir Path tempDir)
+      throws IOException {
+    Path includeFile = tempDir.resolve("Consts.inc");
+    Files.writeString(includeFile, "  Before = 1;\n");
+
+    Path sourceFile = tempDir.resolve("Source.pas");
+    Files.writeString(
+        sourceFile, "unit Source;\ninterface\nconst\n{$I Consts.inc}\nimplementation\nend.");
+
+    DelphiFileConfig config = DelphiFileUtils.mockConfig();
+    DelphiPreprocessorFactory factory = config.getPreprocessorFactory();
+
+    assertThat(preprocess(sourceFile, factory, config).stream().map(Token::getText))
+        .contains("Before");
+
+    FileTime lastModified = Files.getLastModifiedTime(includeFile);
+    Files.writeString(includeFile, "  After = 1;\n");
+    Files.setLastModifiedTime(
+        includeFile, FileTime.fromMillis(lastModified.toMillis() + TimeUnit.MINUTES.toMillis(1)));
+
+    assertThat(preprocess(sourceFile, factory, config).stream().map(Token::getText))
+        .contains("After")
+        .doesNotContain("Before");
+  }
+
+  @Test
+  void testIncludedFilesShouldContainNestedAndUnresolvedIncludes(@TempDir Path tempDir)
+      throws IOException {
+    Files.writeString(tempDir.resolve("Outer.inc"), "{$I Inner.inc}\n");
+    Files.writeString(tempDir.resolve("Inner.inc"), "  Included = 1;\n");
+
+    Path sourceFile = tempDir.resolve("Source.pas");
+    Files.writeString(
+        sourceFile,
+        "unit Source;\ninterface\nconst\n{$I Outer.inc}\n{$I Missing.inc}\nimplementation\nend.");
+
+    DelphiFileConfig config = DelphiFileUtils.mockConfig();
+    DelphiFileStream fileStream =
+        new DelphiFileStream(sourceFile.toAbsolutePath().toString(), config.getEncoding());
+    DelphiPreprocessor preprocessor =
+        config.getPreprocessorFactory().createPreprocessor(new DelphiLexer(fileStream), config);
+    preprocessor.process();
+
+    assertThat(preprocessor.getIncludedFiles())
+        .containsExactlyInAnyOrder(
+            tempDir.resolve("Outer.inc").toAbsolutePath(),
+            tempDir.resolve("Inner.inc").toAbsolutePath(),
+            tempDir.resolve("Missing.inc").toAbsolutePath());
+  }
+
+  private static List<Token> preprocess(
+      Path sourceFile, DelphiPreprocessorFactory factory, DelphiFileConfig config)
+      throws IOException {
+    DelphiFileStream fileStream =
+        new DelphiFileStream(sourceFile.toAbsolutePath().toString(), config.getEncoding());
+    DelphiPreprocessor preprocessor =
+        factory.createPreprocessor(new DelphiLexer(fileStream), config);
+    preprocessor.process();
+    return preprocessor.getTokenStream().getTokens();
+  }
+
+  private static DelphiToken findIncludedToken(List<Token> tokens, String text) {
+    return tokens.stream()
+        .filter(token -> text.equals(token.getText()))
+        .map(DelphiTokenImpl::new)
+        .findFirst()
+        .orElseThrow();
+  }
+
   @Test
   void testCallingProcessTwiceShouldThrowException() throws Exception {
     String filePath =
@@ -18,11 +18,16 @@
  */
 package au.com.integradev.delphi.preprocessor.search;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
+import java.util.List;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class SearchPathTest {
   @Test
@@ -31,4 +36,34 @@ class SearchPathTest {
     Path invalidPath = Path.of("C:/MY/INVALID/PATH");
     assertThatCode(() -> searchPath.search("file", invalidPath)).doesNotThrowAnyException();
   }
+
+  @Test
+  void testSearchShouldIgnoreCase(@TempDir Path root) throws IOException {
+    Path file = Files.createFile(root.resolve("Defines.inc"));
+    SearchPath searchPath = SearchPath.create(List.of(root));
+
+    assertThat(searchPath.search("DEFINES.INC", root.resolve("unindexed"))).isEqualTo(file);
+    assertThat(searchPath.search("defines.inc", root)).isEqualTo(file);
+  }
+
+  @Test
+  void testSearchShouldPreferShallowestFile(@TempDir Path root) throws IOException {
+    Path nested = Files.createDirectories(root.resolve("a").resolve("b"));
+    Files.createFile(nested.resolve("Defines.inc"));
+    Path shallow = Files.createDirectories(root.resolve("c")).resolve("defines.inc");
+    Files.createFile(shallow);
+    SearchPath searchPath = SearchPath.create(List.of(root));
+
+    assertThat(searchPath.search("Defines.inc", root)).isEqualTo(shallow);
+  }
+
+  @Test
+  void testSearchShouldPreferIncludePathOverRootDirectories(
+      @TempDir Path root, @TempDir Path includePath) throws IOException {
+    Files.createFile(root.resolve("Defines.inc"));
+    Path local = Files.createFile(includePath.resolve("Defines.inc"));
+    SearchPath searchPath = SearchPath.create(List.of(root));
+
+    assertThat(searchPath.search("Defines.inc", includePath)).isEqualTo(local);
+  }
 }
@@ -27,8 +27,11 @@ import static org.mockito.Mockito.when;
 
 import au.com.integradev.delphi.DelphiProperties;
 import au.com.integradev.delphi.compiler.Platform;
+import au.com.integradev.delphi.file.DelphiFile;
+import au.com.integradev.delphi.file.DelphiFile.DelphiInputFile;
 import au.com.integradev.delphi.preprocessor.DelphiPreprocessorFactory;
 import au.com.integradev.delphi.preprocessor.search.SearchPath;
+import au.com.integradev.delphi.symbol.SymbolTableBuilder.StandardLibrary;
 import au.com.integradev.delphi.symbol.SymbolTableBuilder.SymbolTableConstructionException;
 import au.com.integradev.delphi.utils.types.TypeFactoryUtils;
 import java.io.IOException;
@@ -37,6 +40,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.spi.FileSystemProvider;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -46,6 +50,9 @@ import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentMatchers;
+import org.sonar.plugins.communitydelphi.api.symbol.declaration.TypeNameDeclaration;
+import org.sonar.plugins.communitydelphi.api.symbol.declaration.UnitNameDeclaration;
+import org.sonar.plugins.communitydelphi.api.symbol.scope.SystemScope;
 
 class SymbolTableBuilderTest {
   @Test
@@ -263,6 +270,220 @@ class SymbolTableBuilderTest {
     assertThatCode(symbolTable::build).doesNotThrowAnyException();
   }
 
+  @Test
+  void testRetainedSourceFilesCanBeTakenOnce(
+      @TempDir Path standardLibraryPath, @TempDir Path tempDir) throws IOException {
+    createStandardLibrary(standardLibraryPath);
+
+    Path sourceFilePath = tempDir.resolve("SourceFile.pas");
+    Files.writeString(
+        sourceFilePath,
+        "unit SourceFile;\n" //
+            + "interface\n"
+            + "implementation\n"
+            + "end.");
+
+    SymbolTable symbolTable =
+        SymbolTable.builder()
+            .preprocessorFactory(
+                new DelphiPreprocessorFactory(
+                    DelphiProperties.COMPILER_VERSION_DEFAULT, Platform.WINDOWS))
+            .typeFactory(TypeFactoryUtils.defaultFactory())
+            .standardLibraryPath(standardLibraryPath)
+            .sourceFiles(List.of(sourceFilePath))
+            .retainSourceFiles(true)
+            .build();
+
+    String path = sourceFilePath.toAbsolutePath().toString();
+    DelphiFile retained = symbolTable.takeSourceFile(path);
+
+    assertThat(retained).isInstanceOf(DelphiInputFile.class);
+    assertThat(((DelphiInputFile) retained).getInputFile()).isNull();
+    assertThat(symbolTable.takeSourceFile(path)).isNull();
+    assertThat(
+            symbolTable.takeSourceFile(
+                standardLibraryPath.resolve("System.pas").toAbsolutePath().toString()))
+        .isNull();
+  }
+
+  @Test
+  void testSourceFilesAreNotRetainedByDefault(
+      @TempDir Path standardLibraryPath, @TempDir Path tempDir) throws IOException {
+    createStandardLibrary(standardLibraryPath);
+
+    Path sourceFilePath = tempDir.resolve("SourceFile.pas");
+    Files.writeString(
+        sourceFilePath,
+        "unit SourceFile;\n" //
+            + "interface\n"
+            + "implementation\n"
+            + "end.");
+
+    SymbolTable symbolTable =
+        SymbolTable.builder()
+            .preprocessorFactory(
+                new DelphiPreprocessorFactory(
+                    DelphiProperties.COMPILER_VERSION_DEFAULT, Platform.WINDOWS))
+            .typeFactory(TypeFactoryUtils.defaultFactory())
+            .standardLibraryPath(standardLibraryPath)
+            .sourceFiles(List.of(sourceFilePath))
+            .build();
+
+    assertThat(symbolTable.takeSourceFile(sourceFilePath.toAbsolutePath().toString())).isNull();
+  }
+
+  @Test
+  void testMultiThreadedBuildShouldResolveSameUnits(
+      @TempDir Path standardLibraryPath, @TempDir Path tempDir) throws IOException {
+    createStandardLibrary(standardLibraryPath);
+
+    Path includePath = tempDir.resolve("include");
+    Files.createDirectories(includePath);
+    Files.writeString(
+        includePath.resolve("Imported.pas"),
+        "unit Imported;\n"
+            + "interface\n"
+            + "type\n"
+            + "  TFoo = class\n"
+            + "  end;\n"
+            + "implementation\n"
+            + "end.");
+
+    List<Path> sourceFiles = new ArrayList<>();
+    for (int i = 0; i < 8; ++i) {
+      Path sourceFilePath = tempDir.resolve("SourceFile" + i + ".pas");
+      Files.writeString(
+          sourceFilePath,
+          "unit SourceFile"
+              + i
+              + ";\n"
+              + "interface\n"
+              + "uses\n"
+              + "  Imported;\n"
+              + "var\n"
+              + "  Foo: TFoo;\n"
+              + "implementation\n"
+              + "end.");
+      sourceFiles.add(sourceFilePath);
+    }
+
+    SymbolTable symbolTable =
+        SymbolTable.builder()
+            .preprocessorFactory(
+                new DelphiPreprocessorFactory(
+                    DelphiProperties.COMPILER_VERSION_DEFAULT, Platform.WINDOWS))
+            .typeFactory(TypeFactoryUtils.defaultFactory())
+            .standardLibraryPath(standardLibraryPath)
+            .searchPath(SearchPath.create(List.of(includePath)))
+            .sourceFiles(sourceFiles)
+            .threads(4)
+            .build();
+
+    for (Path sourceFile : sourceFiles) {
+      UnitNameDeclaration unit = symbolTable.getUnitByPath(sourceFile.toString());
+      assertThat(unit).isNotNull();
+      assertThat(unit.getInterfaceDependencies())
+          .extracting(UnitNameDeclaration::getName)
+          .contains("Imported");
+    }
+  }
+
+  @Test
+  void testFindDependentsShouldFollowImportsTransitively(
+      @TempDir Path standardLibraryPath, @TempDir Path tempDir) throws IOException {
+    createStandardLibrary(standardLibraryPath);
+
+    Path unitA = tempDir.resolve("UnitA.pas");
+    Path unitB = tempDir.resolve("UnitB.pas");
+    Path unitC = tempDir.resolve("UnitC.pas");
+    Path unitD = tempDir.resolve("UnitD.pas");
+
+    Files.writeString(
+        unitA,
+        "unit UnitA;\n" //
+            + "interface\n"
+            + "implementation\n"
+            + "uses\n"
+            + "  UnitB;\n"
+            + "end.");
+    Files.writeString(
+        unitB,
+        "unit UnitB;\n" //
+            + "interface\n"
+            + "uses\n"
+            + "  UnitC;\n"
+            + "implementation\n"
+            + "end.");
+    Files.writeString(
+        unitC,
+        "unit UnitC;\n" //
+            + "interface\n"
+            + "implementation\n"
+            + "end.");
+    Files.writeString(
+        unitD,
+        "unit UnitD;\n" //
+            + "interface\n"
+            + "implementation\n"
+            + "end.");
+
+    SymbolTable symbolTable =
+        SymbolTable.builder()
+            .preprocessorFactory(
+                new DelphiPreprocessorFactory(
+                    DelphiProperties.COMPILER_VERSION_DEFAULT, Platform.WINDOWS))
+            .typeFactory(TypeFactoryUtils.defaultFactory())
+            .standardLibraryPath(standardLibraryPath)
+            .sourceFiles(List.of(unitA, unitB, unitC, unitD))
+            .build();
+
+    assertThat(symbolTable.findDependents(Set.of(unitC.toAbsolutePath().toString())))
+        .containsExactlyInAnyOrder(
+            unitA.toAbsolutePath().toString(), unitB.toAbsolutePath().toString());
+    assertThat(symbolTable.findDependents(Set.of(unitD.toAbsolutePath().toString()))).isEmpty();
+  }
+
+  @Test
+  void testSharedStandardLibraryShouldDiscardOccurrencesOnReset(
+      @TempDir Path standardLibraryPath, @TempDir Path tempDir) throws IOException {
+    createStandardLibrary(standardLibraryPath);
+
+    Path sourceFile = tempDir.resolve("SourceFile.pas");
+    Files.writeString(
+        sourceFile,
+        "unit SourceFile;\n"
+            + "interface\n"
+            + "var\n"
+            + "  Foo: TObject;\n"
+            + "implementation\n"
+            + "end.");
+
+    DelphiPreprocessorFactory preprocessorFactory =
+        new DelphiPreprocessorFactory(DelphiProperties.COMPILER_VERSION_DEFAULT, Platform.WINDOWS);
+    StandardLibrary standardLibrary =
+        SymbolTable.builder()
+            .preprocessorFactory(preprocessorFactory)
+            .typeFactory(TypeFactoryUtils.defaultFactory())
+            .standardLibraryPath(standardLibraryPath)
+            .buildStandardLibrary();
+
+    SymbolTable symbolTable =
+        SymbolTable.builder()
+            .preprocessorFactory(preprocessorFactory)
+            .standardLibrary(standardLibrary)
+            .sourceFiles(List.of(sourceFile))
+            .build();
+
+    SystemScope systemScope =
+        symbolTable.getUnitByPath(sourceFile.toString()).getFileScope().getSystemScope();
+    TypeNameDeclaration tObject = systemScope.getTObjectDeclaration();
+    assertThat(systemScope.getOccurrencesFor(tObject)).isNotEmpty();
+
+    standardLibrary.reset();
+
+    assertThat(systemScope.getOccurrencesFor(tObject)).isEmpty();
+  }
+
   private static void createStandardLibrary(Path path) throws IOException {
     Files.writeString(
         path.resolve("SysInit.pas"),
@@ -182,6 +182,52 @@ class InvocationResolverTest {
     return new InvocationCandidate(invocable);
   }
 
+  @Test
+  void testResolutionResultsShouldBeCached() {
+    InvocationResolutionCache cache = new InvocationResolutionCache(16);
+    Type argumentType = type(INTEGER);
+    Invocable winner = mockCandidate(List.of(type(LONGINT)), false).getData();
+    Invocable loser = mockCandidate(List.of(type(BYTE)), false).getData();
+
+    for (int i = 0; i < 3; ++i) {
+      InvocationResolver resolver = new InvocationResolver(cache);
+      InvocationArgument argument = mock(InvocationArgument.class);
+      when(argument.getType()).thenReturn(argumentType);
+      when(argument.isCacheable()).thenReturn(true);
+      resolver.addArgument(argument);
+
+      InvocationCandidate winnerCandidate = new InvocationCandidate(winner);
+      InvocationCandidate loserCandidate = new InvocationCandidate(loser);
+      resolver.addCandidate(winnerCandidate);
+      resolver.addCandidate(loserCandidate);
+      resolver.processCandidates();
+
+      assertThat(resolver.chooseBest()).containsOnly(winnerCandidate);
+      assertThat(loserCandidate.isInvalid()).isTrue();
+    }
+
+    assertThat(cache.getMissCount()).isEqualTo(1);
+    assertThat(cache.getHitCount()).isEqualTo(2);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void testResolutionCacheShouldEvictLeastRecentlyUsedResults() {
+    InvocationResolutionCache cache = new InvocationResolutionCache(2);
+    var first = new InvocationResolutionCache.Key(List.of(type(INTEGER)), List.of());
+    var second = new InvocationResolutionCache.Key(List.of(type(BYTE)), List.of());
+    var third = new InvocationResolutionCache.Key(List.of(type(WORD)), List.of());
+
+    cache.put(first, new int[0]);
+    cache.put(second, new int[0]);
+    assertThat(cache.get(first)).isNotNull();
+    cache.put(third, new int[0]);
+
+    assertThat(cache.get(first)).isNotNull();
+    assertThat(cache.get(second)).isNull();
+    assertThat(cache.get(third)).isNotNull();
+  }
+
   @Test
   void testIntegerTypes() {
     assertResolved(type(INTEGER), type(LONGINT), type(BYTE));
@@ -46,7 +46,9 @@ import static org.sonar.plugins.communitydelphi.api.type.TypeFactory.untypedType
 import static org.sonar.plugins.communitydelphi.api.type.TypeFactory.voidType;
 
 import au.com.integradev.delphi.type.factory.ArrayOption;
+import au.com.integradev.delphi.type.factory.PointerTypeImpl;
 import au.com.integradev.delphi.type.factory.TypeFactoryImpl;
+import au.com.integradev.delphi.type.generic.TypeParameterTypeImpl;
 import au.com.integradev.delphi.utils.types.TypeFactoryUtils;
 import au.com.integradev.delphi.utils.types.TypeMocker;
 import java.util.Collections;
@@ -665,6 +667,57 @@ class TypeComparerTest {
     compare(IntrinsicType.DOUBLE, ANY_ORDINAL, INCOMPATIBLE_TYPES);
   }
 
+  @Test
+  void testComparisonsShouldBeMemoized() {
+    TypeComparisonCache cache = new TypeComparisonCache();
+    Type from = FACTORY.getIntrinsic(IntrinsicType.SHORTINT);
+    Type to = FACTORY.getIntrinsic(IntrinsicType.INT64);
+
+    EqualityType expected = TypeComparer.compare(from, to, cache);
+
+    assertThat(TypeComparer.compare(from, to, cache)).isEqualTo(expected);
+    assertThat(cache.getHitCount()).isEqualTo(1);
+  }
+
+  @Test
+  void testComparisonsOfTypesContainingTypeParametersShouldNotBeMemoized() {
+    TypeComparisonCache cache = new TypeComparisonCache();
+    Type from = dynamicArray(null, TypeParameterTypeImpl.create("T"));
+    Type to = dynamicArray(null, FACTORY.getIntrinsic(IntrinsicType.INTEGER));
+
+    TypeComparer.compare(from, to, cache);
+
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void testComparisonsOfIncompleteTypesShouldNotBeMemoized() {
+    TypeComparisonCache cache = new TypeComparisonCache();
+    Type integer = FACTORY.getIntrinsic(IntrinsicType.INTEGER);
+    PointerType pointer = ((TypeFactoryImpl) FACTORY).declaredPointerTo("PFoo", unknownType());
+    Type to = FACTORY.untypedPointer();
+
+    TypeComparer.compare(pointer, to, cache);
+    assertThat(cache.size()).isZero();
+
+    ((PointerTypeImpl) pointer).setDereferencedType(integer);
+    TypeComparer.compare(pointer, to, cache);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void testDisabledCacheShouldNotMemoize() {
+    TypeComparisonCache cache = new TypeComparisonCache(16, false);
+    Type from = FACTORY.getIntrinsic(IntrinsicType.SHORTINT);
+    Type to = FACTORY.getIntrinsic(IntrinsicType.INT64);
+
+    TypeComparer.compare(from, to, cache);
+    TypeComparer.compare(from, to, cache);
+
+    assertThat(cache.size()).isZero();
+    assertThat(cache.getHitCount()).isZero();
+  }
+
   private static CollectionType openArray(String image, Type type) {
     return ((TypeFactoryImpl) FACTORY).array(image, type, Set.of(ArrayOption.OPEN));
   }
@@ -0,0 +1,95 @@
+/*
+ * Sonar Delphi Plugin
+ * Copyright (C) 2026 Integrated Application Development
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02
+ */
+package au.com.integradev.delphi.symbol.scope;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.sonar.plugins.communitydelphi.api.symbol.scope.DelphiScope.unknownScope;
+import static org.sonar.plugins.communitydelphi.api.type.TypeFactory.unknownType;
+
+import au.com.integradev.delphi.symbol.SymbolicNode;
+import au.com.integradev.delphi.symbol.declaration.VariableNameDeclarationImpl;
+import au.com.integradev.delphi.symbol.occurrence.NameOccurrenceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sonar.plugins.communitydelphi.api.symbol.NameOccurrence;
+import org.sonar.plugins.communitydelphi.api.symbol.declaration.NameDeclaration;
+
+class FileScopeImplTest {
+  private SystemScopeImpl systemScope;
+  private SysInitScopeImpl sysInitScope;
+  private UnitScopeImpl scope;
+  private UnitScopeImpl first;
+  private UnitScopeImpl second;
+
+  @BeforeEach
+  void setup() {
+    systemScope = new SystemScopeImpl();
+    sysInitScope = new SysInitScopeImpl("SysInit", systemScope);
+    scope = new UnitScopeImpl("Scope", systemScope, sysInitScope);
+    first = new UnitScopeImpl("First", systemScope, sysInitScope);
+    second = new UnitScopeImpl("Second", systemScope, sysInitScope);
+
+    // Later imports take precedence
+    scope.addImport(first);
+    scope.addImport(second);
+  }
+
+  private static NameDeclaration createVariable(String image) {
+    return VariableNameDeclarationImpl.parameter(image, unknownType(), unknownScope());
+  }
+
+  private static NameOccurrence createOccurrence(String image) {
+    return new NameOccurrenceImpl(SymbolicNode.imaginary(image, unknownScope()));
+  }
+
+  @Test
+  void testFindDeclarationShouldRespectImportOrder() {
+    NameDeclaration firstFoo = createVariable("Foo");
+    NameDeclaration secondFoo = createVariable("Foo");
+    first.addDeclaration(firstFoo);
+    second.addDeclaration(secondFoo);
+
+    assertThat(scope.findDeclaration(createOccurrence("foo"))).containsExactly(secondFoo);
+  }
+
+  @Test
+  void testFindDeclarationShouldSeeDeclarationsAddedAfterMiss() {
+    assertThat(scope.findDeclaration(createOccurrence("Foo"))).isEmpty();
+
+    NameDeclaration firstFoo = createVariable("Foo");
+    first.addDeclaration(firstFoo);
+    assertThat(scope.findDeclaration(createOccurrence("Foo"))).containsExactly(firstFoo);
+
+    NameDeclaration secondFoo = createVariable("Foo");
+    second.addDeclaration(secondFoo);
+    assertThat(scope.findDeclaration(createOccurrence("Foo"))).containsExactly(secondFoo);
+  }
+
+  @Test
+  void testFindDeclarationShouldSeeImportsAddedAfterMiss() {
+    assertThat(scope.findDeclaration(createOccurrence("Bar"))).isEmpty();
+
+    UnitScopeImpl third = new UnitScopeImpl("Third", systemScope, sysInitScope);
+    NameDeclaration bar = createVariable("Bar");
+    third.addDeclaration(bar);
+    scope.addImport(third);
+
+    assertThat(scope.findDeclaration(createOccurrence("Bar"))).containsExactly(bar);
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Sonar Delphi Plugin
+ * Copyright (C) 2026 Integrated Application Development
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02
+ */
+package au.com.integradev.delphi.symbol.scope;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class TokenIndexMapTest {
+  @Test
+  void testEmptyMapShouldReturnNull() {
+    TokenIndexMap<String> map = new TokenIndexMap<>(0);
+    assertThat(map.get(0)).isNull();
+    assertThat(map.get(-1)).isNull();
+    assertThat(map.size()).isZero();
+  }
+
+  @Test
+  void testPutAndGetAcrossResizes() {
+    TokenIndexMap<String> map = new TokenIndexMap<>();
+    for (int i = -1; i < 10000; i += 3) {
+      map.put(i, "Value" + i);
+    }
+
+    assertThat(map.size()).isEqualTo(3334);
+    for (int i = -1; i < 10000; ++i) {
+      if ((i + 1) % 3 == 0) {
+        assertThat(map.get(i)).isEqualTo("Value" + i);
+      } else {
+        assertThat(map.get(i)).isNull();
+      }
+    }
+  }
+
+  @Test
+  void testPutShouldReplaceExistingValues() {
+    TokenIndexMap<String> map = new TokenIndexMap<>();
+    map.put(5, "Foo");
+    map.put(5, "Bar");
+    assertThat(map.get(5)).isEqualTo("Bar");
+    assertThat(map.size()).isEqualTo(1);
+
+    map.put(5, null);
+    assertThat(map.get(5)).isNull();
+    assertThat(map.size()).isEqualTo(1);
+  }
+}
@@ -19,11 +19,29 @@
 package au.com.integradev.delphi.symbol.scope;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.sonar.plugins.communitydelphi.api.symbol.scope.DelphiScope.unknownScope;
 
+import au.com.integradev.delphi.symbol.SymbolicNode;
+import au.com.integradev.delphi.symbol.declaration.VariableNameDeclarationImpl;
+import au.com.integradev.delphi.symbol.occurrence.NameOccurrenceImpl;
+import au.com.integradev.delphi.type.generic.GenerifiableTypeImpl;
+import au.com.integradev.delphi.type.generic.TypeParameterTypeImpl;
+import au.com.integradev.delphi.utils.types.TypeFactoryUtils;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
+import org.sonar.plugins.communitydelphi.api.symbol.NameOccurrence;
+import org.sonar.plugins.communitydelphi.api.symbol.declaration.NameDeclaration;
+import org.sonar.plugins.communitydelphi.api.symbol.declaration.TypedDeclaration;
+import org.sonar.plugins.communitydelphi.api.symbol.scope.TypeScope;
+import org.sonar.plugins.communitydelphi.api.type.IntrinsicType;
 import org.sonar.plugins.communitydelphi.api.type.Type;
+import org.sonar.plugins.communitydelphi.api.type.TypeSpecializationContext;
 
 class TypeScopeImplTest {
   @Test
@@ -36,4 +54,42 @@ class TypeScopeImplTest {
 
     assertThat(scope).hasToString("Foo <TypeScope>");
   }
+
+  @Test
+  void testSpecializedScopeShouldSpecializeDeclarationsOnDemand() {
+    Type typeParameter = TypeParameterTypeImpl.create("T");
+    Type integer = TypeFactoryUtils.defaultFactory().getIntrinsic(IntrinsicType.INTEGER);
+
+    TypeScopeImpl genericScope = new TypeScopeImpl();
+    NameDeclaration foo = VariableNameDeclarationImpl.parameter("Foo", typeParameter, genericScope);
+    NameDeclaration bar = VariableNameDeclarationImpl.parameter("Bar", typeParameter, genericScope);
+    genericScope.addDeclaration(foo);
+    genericScope.addDeclaration(bar);
+
+    TypeSpecializationContext context = mock(TypeSpecializationContext.class);
+    when(context.getArgument(typeParameter)).thenReturn(integer);
+
+    TypeScope scope =
+        TypeScopeImpl.specializedScope(genericScope, mock(GenerifiableTypeImpl.class), context);
+    verify(context, never()).getArgument(any());
+
+    Set<NameDeclaration> found = scope.findDeclaration(createOccurrence("foo"));
+    assertThat(found).hasSize(1);
+    NameDeclaration specializedFoo = found.iterator().next();
+    assertThat(specializedFoo.getGenericDeclaration()).isSameAs(foo);
+    assertThat(((TypedDeclaration) specializedFoo).getType()).isSameAs(integer);
+    verify(context, times(1)).getArgument(typeParameter);
+
+    assertThat(scope.findDeclaration(createOccurrence("Foo")))
+        .singleElement()
+        .isSameAs(specializedFoo);
+    verify(context, times(1)).getArgument(typeParameter);
+
+    assertThat(scope.getAllDeclarations()).hasSize(2).contains(specializedFoo);
+    verify(context, times(2)).getArgument(typeParameter);
+  }
+
+  private static NameOccurrence createOccurrence(String image) {
+    return new NameOccurrenceImpl(SymbolicNode.imaginary(image, unknownScope()));
+  }
 }
@@ -211,6 +211,21 @@ class TypeFactoryTest {
     assertThat(nativeUInt.is(IntrinsicType.UINT64)).isTrue();
   }
 
+  @Test
+  void testStructurallyIdenticalTypesShouldBeShared() {
+    TypeFactory typeFactory = typeFactory(Toolchain.DCC32, VERSION_ALEXANDRIA);
+    Type integer = typeFactory.getIntrinsic(IntrinsicType.INTEGER);
+    Type string = typeFactory.getIntrinsic(IntrinsicType.STRING);
+
+    assertThat(typeFactory.set(integer)).isSameAs(typeFactory.set(integer));
+    assertThat(typeFactory.set(integer)).isNotSameAs(typeFactory.set(string));
+    assertThat(typeFactory.fileOf(integer)).isSameAs(typeFactory.fileOf(integer));
+    assertThat(typeFactory.classOf(null, string)).isSameAs(typeFactory.classOf(null, string));
+    assertThat(typeFactory.classOf("Foo", string)).isNotSameAs(typeFactory.classOf("Foo", string));
+    assertThat(typeFactory.ansiString(1252)).isSameAs(typeFactory.ansiString(1252));
+    assertThat(typeFactory.ansiString(1252).getImage()).isEqualTo("System.AnsiString(1252)");
+  }
+
   private static TypeFactory typeFactory(Toolchain toolchain, String versionSymbol) {
     return new TypeFactoryImpl(toolchain, CompilerVersion.fromVersionSymbol(versionSymbol));
   }
@@ -0,0 +1,115 @@
+/*
+ * Sonar Delphi Plugin
+ * Copyright (C) 2026 Integrated Application Development
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02
+ */
+package au.com.integradev.delphi.type.generic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import org.sonar.plugins.communitydelphi.api.symbol.declaration.NameDeclaration;
+import org.sonar.plugins.communitydelphi.api.type.TypeSpecializationContext;
+
+class TypeSpecializationRegistryTest {
+  private static TypeSpecializationContext createContext() {
+    return new TypeSpecializationContextImpl(mock(NameDeclaration.class), Collections.emptyList());
+  }
+
+  @Test
+  void testSpecializationsShouldBeReusedWhileInUse() {
+    TypeSpecializationRegistry registry = new TypeSpecializationRegistry();
+    GenerifiableTypeImpl generic = mock(GenerifiableTypeImpl.class);
+    GenerifiableTypeImpl specialized = mock(GenerifiableTypeImpl.class);
+    when(generic.doSpecialization(createContext())).thenReturn(specialized);
+
+    assertThat(registry.specialize(generic, createContext())).isSameAs(specialized);
+    assertThat(registry.specialize(generic, createContext())).isSameAs(specialized);
+
+    verify(generic, times(1)).doSpecialization(createContext());
+    verify(specialized, times(1)).doAfterSpecialization(createContext());
+    assertThat(registry.size()).isEqualTo(1);
+    assertThat(registry.getHitCount()).isEqualTo(1);
+    assertThat(registry.getMissCount()).isEqualTo(1);
+  }
+
+  @Test
+  void testSpecializationsShouldBeKeyedByGenericTypeIdentity() {
+    TypeSpecializationRegistry registry = new TypeSpecializationRegistry();
+    GenerifiableTypeImpl generic = mock(GenerifiableTypeImpl.class);
+    GenerifiableTypeImpl otherGeneric = mock(GenerifiableTypeImpl.class);
+    GenerifiableTypeImpl specialized = mock(GenerifiableTypeImpl.class);
+    GenerifiableTypeImpl otherSpecialized = mock(GenerifiableTypeImpl.class);
+    when(generic.doSpecialization(createContext())).thenReturn(specialized);
+    when(otherGeneric.doSpecialization(createContext())).thenReturn(otherSpecialized);
+
+    assertThat(registry.specialize(generic, createContext())).isSameAs(specialized);
+    assertThat(registry.specialize(otherGeneric, createContext())).isSameAs(otherSpecialized);
+    assertThat(registry.size()).isEqualTo(2);
+  }
+
+  @Test
+  void testSpecializationsShouldOnlyBePublishedOnceComplete() {
+    TypeSpecializationRegistry registry = new TypeSpecializationRegistry();
+    GenerifiableTypeImpl outer = mock(GenerifiableTypeImpl.class);
+    GenerifiableTypeImpl inner = mock(GenerifiableTypeImpl.class);
+    GenerifiableTypeImpl outerSpecialized = mock(GenerifiableTypeImpl.class);
+    GenerifiableTypeImpl innerSpecialized = mock(GenerifiableTypeImpl.class);
+    when(outer.doSpecialization(createContext())).thenReturn(outerSpecialized);
+    when(inner.doSpecialization(createContext())).thenReturn(innerSpecialized);
+
+    doAnswer(
+            invocation -> {
+              assertThat(registry.specialize(inner, createContext())).isSameAs(innerSpecialized);
+              assertThat(registry.size()).isZero();
+              return null;
+            })
+        .when(outerSpecialized)
+        .doAfterSpecialization(createContext());
+
+    doAnswer(
+            invocation -> {
+              // Refers back to the specialization that is still being built
+              assertThat(registry.specialize(outer, createContext())).isSameAs(outerSpecialized);
+              return null;
+            })
+        .when(innerSpecialized)
+        .doAfterSpecialization(createContext());
+
+    assertThat(registry.specialize(outer, createContext())).isSameAs(outerSpecialized);
+    assertThat(registry.size()).isEqualTo(2);
+    verify(outer, times(1)).doSpecialization(createContext());
+    verify(inner, times(1)).doSpecialization(createContext());
+  }
+
+  @Test
+  void testTypesThatDontChangeShouldNotBeRegistered() {
+    TypeSpecializationRegistry registry = new TypeSpecializationRegistry();
+    GenerifiableTypeImpl generic = mock(GenerifiableTypeImpl.class);
+    GenerifiableTypeImpl specialized = mock(GenerifiableTypeImpl.class);
+    when(generic.doSpecialization(createContext())).thenReturn(specialized);
+    when(specialized.is(generic)).thenReturn(true);
+
+    assertThat(registry.specialize(generic, createContext())).isSameAs(generic);
+    assertThat(registry.size()).isZero();
+  }
+}
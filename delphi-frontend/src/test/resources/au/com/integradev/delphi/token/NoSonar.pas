@@ -0,0 +1,18 @@
+unit NoSonar;
+
+interface
+
+implementation
+
+procedure Foo; // NOSONAR
+begin
+  // NOSONAR: suppressed
+  Bar; { NOSONAR }
+  Baz; // NOSONARS
+  Flarp; // XNOSONAR
+  (* NOSONAR
+     spanning multiple lines *)
+  Qux; // nosonar
+end;
+
+end.
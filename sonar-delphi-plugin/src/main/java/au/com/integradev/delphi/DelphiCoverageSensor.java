@@ -22,11 +22,14 @@ import au.com.integradev.delphi.core.Delphi;
 import au.com.integradev.delphi.coverage.DelphiCoverageParser;
 import au.com.integradev.delphi.coverage.DelphiCoverageParserFactory;
 import au.com.integradev.delphi.msbuild.DelphiProjectHelper;
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import org.slf4j.Logger;
@@ -80,16 +83,20 @@ public class DelphiCoverageSensor implements Sensor {
           "No coverage reports specified (see '{}' property)",
           DelphiProperties.COVERAGE_REPORT_KEY);
     } else {
-      Arrays.stream(paths).forEach(path -> addCoverage(context, path, parser));
+      List<File> reportFiles = new ArrayList<>();
+      Arrays.stream(paths).forEach(path -> addReportFiles(path, reportFiles));
+      if (!reportFiles.isEmpty()) {
+        parser.parse(context, reportFiles);
+      }
     }
   }
 
-  private static void addCoverage(SensorContext context, String path, DelphiCoverageParser parser) {
+  private static void addReportFiles(String path, List<File> reportFiles) {
     try (Stream<Path> coverageReportStream = Files.walk(Path.of(path))) {
       coverageReportStream
           .filter(Files::isRegularFile)
           .map(Path::toFile)
-          .forEach(file -> parser.parse(context, file));
+          .forEach(reportFiles::add);
     } catch (IOException | InvalidPathException e) {
       LOG.error("Error while parsing coverage reports:", e);
     }
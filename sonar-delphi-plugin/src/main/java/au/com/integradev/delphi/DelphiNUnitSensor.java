@@ -19,6 +19,7 @@
 package au.com.integradev.delphi;
 
 import au.com.integradev.delphi.core.Delphi;
+import au.com.integradev.delphi.msbuild.DelphiProjectHelper;
 import au.com.integradev.delphi.nunit.DelphiNUnitParser;
 import au.com.integradev.delphi.nunit.ResultsAggregator;
 import au.com.integradev.delphi.utils.DelphiUtils;
@@ -38,9 +39,11 @@ public class DelphiNUnitSensor implements Sensor {
   private static final Logger LOG = LoggerFactory.getLogger(DelphiNUnitSensor.class);
 
   private final Configuration configuration;
+  private final DelphiProjectHelper delphiProjectHelper;
 
-  public DelphiNUnitSensor(Configuration settings) {
+  public DelphiNUnitSensor(Configuration settings, DelphiProjectHelper delphiProjectHelper) {
     this.configuration = settings;
+    this.delphiProjectHelper = delphiProjectHelper;
   }
 
   @Override
@@ -67,20 +70,21 @@ public class DelphiNUnitSensor implements Sensor {
     }
 
     String mainPath = context.fileSystem().baseDir().getAbsolutePath();
+    int threads = delphiProjectHelper.getThreads();
     Arrays.stream(paths)
         .map(path -> DelphiUtils.resolveAbsolutePath(mainPath, path))
         .forEach(
             reportDir -> {
               if (reportDir.exists()) {
-                collect(context, reportDir);
+                collect(context, reportDir, threads);
               } else {
                 LOG.warn("Report path not found {}", reportDir.getAbsolutePath());
               }
             });
   }
 
-  private static void collect(SensorContext context, File reportsDir) {
-    save(context, DelphiNUnitParser.collect(reportsDir));
+  private static void collect(SensorContext context, File reportsDir, int threads) {
+    save(context, DelphiNUnitParser.collect(reportsDir, threads));
   }
 
   private static void save(SensorContext context, ResultsAggregator results) {
@@ -34,6 +34,7 @@ import au.com.integradev.delphi.executor.DelphiMasterExecutor;
 import au.com.integradev.delphi.executor.DelphiMetricsExecutor;
 import au.com.integradev.delphi.executor.DelphiNoSonarExecutor;
 import au.com.integradev.delphi.executor.DelphiSymbolTableExecutor;
+import au.com.integradev.delphi.executor.DelphiTokenExecutor;
 import au.com.integradev.delphi.msbuild.DelphiProjectHelper;
 import com.google.common.collect.ImmutableList;
 import org.sonar.api.Plugin;
@@ -65,6 +66,7 @@ public class DelphiPlugin implements Plugin {
         DelphiMasterExecutor.class,
         DelphiSymbolTableExecutor.class,
         DelphiChecksExecutor.class,
+        DelphiTokenExecutor.class,
         DelphiNoSonarExecutor.class,
         // Core helpers
         DelphiProjectHelper.class,
@@ -22,6 +22,7 @@
  */
 package au.com.integradev.delphi;
 
+import static au.com.integradev.delphi.utils.DelphiUtils.inputFileToPath;
 import static au.com.integradev.delphi.utils.DelphiUtils.inputFilesToPaths;
 import static au.com.integradev.delphi.utils.DelphiUtils.stopProgressReport;
 
@@ -31,6 +32,7 @@ import au.com.integradev.delphi.compiler.CompilerVersion;
 import au.com.integradev.delphi.compiler.Toolchain;
 import au.com.integradev.delphi.core.Delphi;
 import au.com.integradev.delphi.executor.DelphiMasterExecutor;
+import au.com.integradev.delphi.executor.Executor;
 import au.com.integradev.delphi.executor.ExecutorContext;
 import au.com.integradev.delphi.file.DelphiFile;
 import au.com.integradev.delphi.file.DelphiFile.DelphiFileConstructionException;
@@ -42,12 +44,27 @@ import au.com.integradev.delphi.preprocessor.DelphiPreprocessorFactory;
 import au.com.integradev.delphi.preprocessor.PreprocessorException;
 import au.com.integradev.delphi.preprocessor.search.SearchPath;
 import au.com.integradev.delphi.symbol.SymbolTable;
+import au.com.integradev.delphi.symbol.resolve.InvocationResolutionCache;
+import au.com.integradev.delphi.symbol.resolve.TypeComparisonCache;
 import au.com.integradev.delphi.type.factory.TypeFactoryImpl;
+import au.com.integradev.delphi.type.generic.TypeSpecializationRegistry;
 import au.com.integradev.delphi.utils.LocatableException;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import org.slf4j.Logger;
@@ -121,6 +138,8 @@ public class DelphiSensor implements Sensor {
             .unitScopeNames(delphiProjectHelper.getUnitScopeNames())
             .unitAliases(delphiProjectHelper.getUnitAliases())
             .standardLibraryPath(delphiProjectHelper.standardLibraryPath())
+            .retainSourceFiles(true)
+            .threads(delphiProjectHelper.getThreads())
             .build();
 
     ProgressReport progressReport =
@@ -129,7 +148,10 @@ public class DelphiSensor implements Sensor {
 
     progressReport.start(sourceFiles.stream().map(Path::toString).collect(Collectors.toList()));
 
-    ExecutorContext executorContext = new ExecutorContext(sensorContext, symbolTable);
+    int threads = delphiProjectHelper.getThreads();
+    Set<String> unchangedFiles = findUnchangedFiles(sensorContext, inputFiles, symbolTable);
+    ExecutorContext executorContext =
+        new ExecutorContext(sensorContext, symbolTable, threads > 1, unchangedFiles);
     DelphiFileConfig config =
         DelphiFile.createConfig(
             delphiProjectHelper.encoding(),
@@ -141,21 +163,184 @@ public class DelphiSensor implements Sensor {
     boolean success = false;
 
     try {
-      for (Path sourceFile : sourceFiles) {
-        String absolutePath = sourceFile.toAbsolutePath().toString();
-        InputFile inputFile = delphiProjectHelper.getFile(absolutePath);
-        try {
-          DelphiInputFile delphiFile = DelphiInputFile.from(inputFile, config);
-          executor.execute(executorContext, delphiFile);
+      if (threads > 1) {
+        analyzeFilesConcurrently(sourceFiles, threads, executorContext, config, progressReport);
+      } else {
+        for (Path sourceFile : sourceFiles) {
+          analyzeFile(sourceFile, executorContext, config);
           progressReport.nextFile();
-        } catch (DelphiFileConstructionException e) {
-          LOG.error("Error while analyzing {}", absolutePath, e);
-          handleParsingError(sensorContext, inputFile, e);
         }
       }
       success = true;
     } finally {
       stopProgressReport(progressReport, success);
+      clearAnalysisCaches(typeFactory);
+    }
+  }
+
+  private static void clearAnalysisCaches(TypeFactoryImpl typeFactory) {
+    InvocationResolutionCache resolutionCache = typeFactory.getInvocationResolutionCache();
+    TypeComparisonCache comparisonCache = typeFactory.getTypeComparisonCache();
+
+    LOG.debug(
+        "Overload resolution cache: {} hits, {} misses",
+        resolutionCache.getHitCount(),
+        resolutionCache.getMissCount());
+    LOG.debug(
+        "Type comparison cache: {} hits, {} misses",
+        comparisonCache.getHitCount(),
+        comparisonCache.getMissCount());
+
+    TypeSpecializationRegistry specializationRegistry = TypeSpecializationRegistry.getInstance();
+    LOG.debug(
+        "Type specialization registry: {} entries, {} hits, {} misses",
+        specializationRegistry.size(),
+        specializationRegistry.getHitCount(),
+        specializationRegistry.getMissCount());
+
+    resolutionCache.clear();
+    comparisonCache.clear();
+  }
+
+  /**
+   * Finds the files that are unchanged and don't depend on anything that has changed, meaning that
+   * issue detection can be skipped on them.
+   *
+   * <p>A unit counts as changed if it, or any file that it includes, is not an unchanged InputFile.
+   * This covers units and include files that were found on the search path but aren't InputFiles,
+   * since there's no way to know whether they've changed. Files in the standard library or outside
+   * of the base directory aren't part of the changes under analysis, so they count as unchanged. If
+   * any of the project files aren't unchanged, the conditional defines and search path might have
+   * changed too, so nothing is skipped.
+   */
+  private Set<String> findUnchangedFiles(
+      SensorContext sensorContext, Iterable<InputFile> inputFiles, SymbolTable symbolTable) {
+    if (!sensorContext.canSkipUnchangedFiles()) {
+      return Collections.emptySet();
+    }
+
+    Path baseDir = sensorContext.fileSystem().baseDir().toPath().toAbsolutePath().normalize();
+    Path standardLibraryPath =
+        delphiProjectHelper.standardLibraryPath().toAbsolutePath().normalize();
+    Predicate<Path> isChanged = path -> isChanged(path, baseDir, standardLibraryPath);
+
+    if (delphiProjectHelper.getProjectFiles().stream().anyMatch(isChanged)) {
+      LOG.info("Project files have changed, so issue detection won't skip any unchanged files");
+      return Collections.emptySet();
+    }
+
+    Set<String> unchanged = new HashSet<>();
+    Set<String> changed = new HashSet<>();
+    for (InputFile inputFile : inputFiles) {
+      String path = inputFileToPath(inputFile).toAbsolutePath().toString();
+      if (inputFile.status() == InputFile.Status.SAME) {
+        unchanged.add(path);
+      } else {
+        changed.add(path);
+      }
+    }
+
+    for (String path : symbolTable.getUnitPaths()) {
+      if ((!unchanged.contains(path) && isChanged.test(Path.of(path)))
+          || symbolTable.getIncludedFiles(path).stream().anyMatch(isChanged)) {
+        changed.add(path);
+      }
+    }
+
+    unchanged.removeAll(changed);
+    unchanged.removeAll(symbolTable.findDependents(changed));
+
+    LOG.info(
+        "Skipping issue detection on {} unchanged files that don't depend on changed files",
+        unchanged.size());
+
+    return unchanged;
+  }
+
+  private boolean isChanged(Path path, Path baseDir, Path standardLibraryPath) {
+    Path absolutePath = path.toAbsolutePath().normalize();
+    if (!absolutePath.startsWith(baseDir) || absolutePath.startsWith(standardLibraryPath)) {
+      return false;
+    }
+    InputFile inputFile = delphiProjectHelper.getFile(absolutePath.toString());
+    return inputFile == null || inputFile.status() != InputFile.Status.SAME;
+  }
+
+  /**
+   * Analyzes the source files on a pool of worker threads.
+   *
+   * <p>Only thread-safe executors run in parallel: highlighting, CPD tokens, metrics and NOSONAR
+   * comments, as well as parsing any file that wasn't retained by the symbol table. The symbol
+   * table executor and the checks are not thread-safe, so they run under the lock of the executor
+   * context, one file at a time. The type factory and the include file cache are shared by all
+   * workers, and are both thread-safe.
+   *
+   * <p>At most {@code 2 * threads} files are queued at once, so the parsed files waiting to be
+   * analyzed stay bounded by the number of threads rather than the size of the project.
+   */
+  private void analyzeFilesConcurrently(
+      List<Path> sourceFiles,
+      int threads,
+      ExecutorContext executorContext,
+      DelphiFileConfig config,
+      ProgressReport progressReport) {
+    LOG.info("Analyzing files with {} threads", threads);
+
+    ExecutorService executorService =
+        Executors.newFixedThreadPool(
+            threads,
+            new ThreadFactoryBuilder().setNameFormat("delphi-analysis-%d").setDaemon(true).build());
+
+    try {
+      int maxQueued = 2 * threads;
+      Deque<Future<?>> futures = new ArrayDeque<>(maxQueued);
+      Iterator<Path> remaining = sourceFiles.iterator();
+
+      while (remaining.hasNext() || !futures.isEmpty()) {
+        while (futures.size() < maxQueued && remaining.hasNext()) {
+          Path sourceFile = remaining.next();
+          futures.add(
+              executorService.submit(() -> analyzeFile(sourceFile, executorContext, config)));
+        }
+
+        awaitFile(futures.remove());
+        progressReport.nextFile();
+      }
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  private static void awaitFile(Future<?> future) {
+    try {
+      future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while analyzing files", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+
+  private void analyzeFile(
+      Path sourceFile, ExecutorContext executorContext, DelphiFileConfig config) {
+    String absolutePath = sourceFile.toAbsolutePath().toString();
+    InputFile inputFile = delphiProjectHelper.getFile(absolutePath);
+    try {
+      DelphiFile parsedFile = executorContext.symbolTable().takeSourceFile(absolutePath);
+      DelphiInputFile delphiFile = DelphiInputFile.from(inputFile, parsedFile, config);
+      executor.execute(executorContext, delphiFile);
+    } catch (DelphiFileConstructionException e) {
+      LOG.error("Error while analyzing {}", absolutePath, e);
+      Executor.Context.runExclusively(
+          executorContext, () -> handleParsingError(executorContext.sensorContext(), inputFile, e));
     }
   }
 
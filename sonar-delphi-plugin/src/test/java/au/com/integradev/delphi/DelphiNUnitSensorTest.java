@@ -25,6 +25,7 @@ import static org.mockito.Mockito.verify;
 import static org.sonar.api.measures.CoreMetrics.*;
 
 import au.com.integradev.delphi.core.Delphi;
+import au.com.integradev.delphi.msbuild.DelphiProjectHelper;
 import au.com.integradev.delphi.utils.DelphiUtils;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -44,7 +45,9 @@ class DelphiNUnitSensorTest {
   void setup() {
     context = SensorContextTester.create(DelphiUtils.getResource(PROJECT_DIR));
     settings = new MapSettings();
-    sensor = new DelphiNUnitSensor(settings.asConfig());
+    DelphiProjectHelper delphiProjectHelper = mock(DelphiProjectHelper.class);
+    when(delphiProjectHelper.getThreads()).thenReturn(1);
+    sensor = new DelphiNUnitSensor(settings.asConfig(), delphiProjectHelper);
   }
 
   void assertAllMeasuresEmpty() {
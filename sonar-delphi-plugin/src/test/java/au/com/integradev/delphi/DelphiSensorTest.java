@@ -21,6 +21,7 @@ package au.com.integradev.delphi;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.willThrow;
@@ -32,17 +33,22 @@ import static org.mockito.Mockito.when;
 
 import au.com.integradev.delphi.core.Delphi;
 import au.com.integradev.delphi.executor.DelphiMasterExecutor;
+import au.com.integradev.delphi.executor.Executor;
+import au.com.integradev.delphi.file.DelphiFile.DelphiInputFile;
 import au.com.integradev.delphi.msbuild.DelphiProjectHelper;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.sonar.api.batch.fs.InputFile;
 import org.sonar.api.batch.fs.TextRange;
 import org.sonar.api.batch.fs.internal.TestInputFileBuilder;
@@ -113,6 +119,19 @@ class DelphiSensorTest {
     when(delphiProjectHelper.getFile(anyString())).thenReturn(inputFile);
   }
 
+  private InputFile setupFile(String name, String content, InputFile.Status status)
+      throws IOException {
+    Path sourceFilePath = baseDir.resolve(name);
+    Files.writeString(sourceFilePath, content);
+
+    return TestInputFileBuilder.create("moduleKey", baseDir.toFile(), sourceFilePath.toFile())
+        .setContents(content)
+        .setLanguage(Delphi.KEY)
+        .setType(InputFile.Type.MAIN)
+        .setStatus(status)
+        .build();
+  }
+
   private void assertParsingErrorWithMessage(int expectedLine, String expectedMessage) {
     assertParsingErrorMatchingMessage(expectedLine, Pattern.quote(expectedMessage));
   }
@@ -191,6 +210,102 @@ class DelphiSensorTest {
     verify(executor, times(1)).execute(any(), any());
   }
 
+  @Test
+  void testUnchangedFilesThatDontDependOnChangedFilesAreSkipped() throws IOException {
+    InputFile changed =
+        setupFile(
+            "Changed.pas",
+            "unit Changed;\ninterface\nimplementation\nend.",
+            InputFile.Status.CHANGED);
+    InputFile unchanged =
+        setupFile(
+            "Unchanged.pas",
+            "unit Unchanged;\ninterface\nimplementation\nend.",
+            InputFile.Status.SAME);
+    InputFile dependent =
+        setupFile(
+            "Dependent.pas",
+            "unit Dependent;\ninterface\nuses Changed;\nimplementation\nend.",
+            InputFile.Status.SAME);
+
+    assertThat(executeSkippingUnchangedFiles(List.of(changed, unchanged, dependent)))
+        .containsOnly(
+            entry("Changed.pas", false),
+            entry("Unchanged.pas", true),
+            entry("Dependent.pas", false));
+  }
+
+  @Test
+  void testUnchangedFilesThatIncludeFilesWithUnknownStatusAreNotSkipped() throws IOException {
+    Files.writeString(baseDir.resolve("Defines.inc"), "{$DEFINE FOO}");
+
+    InputFile unchanged =
+        setupFile(
+            "Unchanged.pas",
+            "unit Unchanged;\ninterface\nimplementation\nend.",
+            InputFile.Status.SAME);
+    InputFile includer =
+        setupFile(
+            "Includer.pas",
+            "unit Includer;\ninterface\n{$I Defines.inc}\nimplementation\nend.",
+            InputFile.Status.SAME);
+    InputFile dependent =
+        setupFile(
+            "Dependent.pas",
+            "unit Dependent;\ninterface\nuses Includer;\nimplementation\nend.",
+            InputFile.Status.SAME);
+
+    assertThat(executeSkippingUnchangedFiles(List.of(unchanged, includer, dependent)))
+        .containsOnly(
+            entry("Unchanged.pas", true),
+            entry("Includer.pas", false),
+            entry("Dependent.pas", false));
+  }
+
+  @Test
+  void testUnchangedFilesAreNotSkippedIfProjectFilesHaveChanged() throws IOException {
+    InputFile unchanged =
+        setupFile(
+            "Unchanged.pas",
+            "unit Unchanged;\ninterface\nimplementation\nend.",
+            InputFile.Status.SAME);
+
+    when(delphiProjectHelper.getProjectFiles())
+        .thenReturn(List.of(baseDir.resolve("Project.dproj")));
+
+    assertThat(executeSkippingUnchangedFiles(List.of(unchanged)))
+        .containsOnly(entry("Unchanged.pas", false));
+  }
+
+  private Map<String, Boolean> executeSkippingUnchangedFiles(List<InputFile> inputFiles) {
+    when(delphiProjectHelper.inputFiles()).thenReturn(inputFiles);
+    when(delphiProjectHelper.getFile(anyString()))
+        .thenAnswer(
+            invocation ->
+                inputFiles.stream()
+                    .filter(
+                        file -> Path.of(file.uri()).toString().equals(invocation.getArgument(0)))
+                    .findFirst()
+                    .orElse(null));
+
+    SensorContextTester context = SensorContextTester.create(baseDir);
+    context.setCanSkipUnchangedFiles(true);
+
+    sensor.execute(context);
+
+    ArgumentCaptor<Executor.Context> contexts = ArgumentCaptor.forClass(Executor.Context.class);
+    ArgumentCaptor<DelphiInputFile> files = ArgumentCaptor.forClass(DelphiInputFile.class);
+    verify(executor, times(inputFiles.size())).execute(contexts.capture(), files.capture());
+
+    Map<String, Boolean> unchangedByFile = new HashMap<>();
+    for (int i = 0; i < files.getAllValues().size(); ++i) {
+      DelphiInputFile file = files.getAllValues().get(i);
+      unchangedByFile.put(
+          file.getSourceCodeFile().getName(), contexts.getAllValues().get(i).isUnchanged(file));
+    }
+    return unchangedByFile;
+  }
+
   @Test
   void testFileWithLexerErrorRaisesParsingErrorIssue() {
     setupFile("\n\n'unterminated string literal");